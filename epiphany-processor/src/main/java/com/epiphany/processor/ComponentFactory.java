@@ -0,0 +1,117 @@
+package com.epiphany.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.util.*;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static javax.lang.model.element.Modifier.*;
+import static javax.lang.model.util.ElementFilter.*;
+
+final class ComponentFactory {
+
+    static final String SUFFIX = "$$Factory";
+    private static final String INJECT = "com.epiphany.context.Inject";
+    private static final String INJECTIONS = "com.epiphany.context.Injections";
+    private static final String INJECTION = "com.epiphany.context.Injection";
+    private static final String LAZY = "com.epiphany.context.Lazy";
+
+    private final TypeElement component;
+    private final Elements elements;
+    private final Types types;
+    private final TypeNames names;
+
+    public ComponentFactory(final TypeElement component, final ProcessingEnvironment environment) {
+        this.component = component;
+        this.elements = environment.getElementUtils();
+        this.types = environment.getTypeUtils();
+        this.names = new TypeNames(elements, types, elements.getPackageOf(component));
+    }
+
+    public TypeElement component() {
+        return component;
+    }
+
+    public String name() {
+        return elements.getBinaryName(component) + SUFFIX;
+    }
+
+    public Optional<String> source() {
+        if (!injectable()) return Optional.empty();
+        Optional<ExecutableElement> constructor = constructor();
+        List<VariableElement> fields = fields();
+        List<ExecutableElement> methods = methods();
+        List<ExecutableElement> injections = injections();
+        if (constructor.isEmpty() || !supported(constructor.get(), fields, methods, injections)) return Optional.empty();
+        return Optional.of(new FactoryWriter(component, elements, names).write(constructor.get(), fields, methods, injections));
+    }
+
+    private boolean injectable() {
+        if (component.getKind() != ElementKind.CLASS || component.getModifiers().contains(ABSTRACT)) return false;
+        if (!component.getTypeParameters().isEmpty() || !names.visible(component)) return false;
+        return component.getNestingKind() == NestingKind.TOP_LEVEL || component.getModifiers().contains(STATIC);
+    }
+
+    private Optional<ExecutableElement> constructor() {
+        List<ExecutableElement> constructors = constructorsIn(component.getEnclosedElements()).stream().filter(o -> o.getModifiers().contains(PUBLIC)).toList();
+        List<ExecutableElement> injectable = constructors.stream().filter(o -> annotated(o, INJECT)).toList();
+        if (injectable.size() > 1) return Optional.empty();
+        return injectable.stream().findFirst().or(() -> constructors.stream().filter(o -> o.getParameters().isEmpty()).findFirst());
+    }
+
+    private List<VariableElement> fields() {
+        return hierarchy().stream().flatMap(type -> fieldsIn(type.getEnclosedElements()).stream()).filter(o -> annotated(o, INJECT)).toList();
+    }
+
+    private List<ExecutableElement> methods() {
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (TypeElement type : hierarchy()) methods.addAll(methodsIn(type.getEnclosedElements()).stream().filter(o -> annotated(o, INJECT))
+            .filter(o -> methods.stream().noneMatch(m -> overrides(o, m)))
+            .filter(o -> methodsIn(component.getEnclosedElements()).stream().filter(m -> !annotated(m, INJECT)).noneMatch(m -> overrides(o, m)))
+            .toList());
+        Collections.reverse(methods);
+        return methods;
+    }
+
+    private List<ExecutableElement> injections() {
+        if (!annotated(component, INJECTIONS)) return List.of();
+        return methodsIn(component.getEnclosedElements()).stream().filter(o -> annotated(o, INJECTION)).toList();
+    }
+
+    private boolean supported(final ExecutableElement constructor, final List<VariableElement> fields, final List<ExecutableElement> methods, final List<ExecutableElement> injections) {
+        if (!representable(constructor.getParameters().stream())) return false;
+        if (!fields.stream().allMatch(o -> member(o) && !o.getModifiers().contains(FINAL) && !annotated(o, LAZY) && names.representable(o.asType()))) return false;
+        if (!methods.stream().allMatch(o -> member(o) && o.getTypeParameters().isEmpty() && representable(o.getParameters().stream()))) return false;
+        return injections.stream().allMatch(o -> member(o) && o.getTypeParameters().isEmpty() && names.representable(o.getReturnType()) && representable(o.getParameters().stream()));
+    }
+
+    private boolean member(final Element member) {
+        if (member.getModifiers().contains(STATIC) || !names.accessible(member)) return false;
+        return member.getEnclosingElement().equals(component) || names.visible(member.getEnclosingElement());
+    }
+
+    private boolean representable(final Stream<? extends VariableElement> parameters) {
+        return parameters.allMatch(o -> !annotated(o, LAZY) && names.representable(o.asType()));
+    }
+
+    private List<TypeElement> hierarchy() {
+        List<TypeElement> hierarchy = new ArrayList<>();
+        for (TypeElement current = component; !current.getQualifiedName().contentEquals(Object.class.getName()); current = (TypeElement) types.asElement(current.getSuperclass()))
+            hierarchy.add(current);
+        return hierarchy;
+    }
+
+    private boolean overrides(final ExecutableElement one, final ExecutableElement another) {
+        return one.getSimpleName().equals(another.getSimpleName()) && parameters(one).equals(parameters(another));
+    }
+
+    private List<String> parameters(final ExecutableElement method) {
+        return method.getParameters().stream().map(o -> types.erasure(o.asType()).toString()).toList();
+    }
+
+    static boolean annotated(final Element element, final String annotation) {
+        return element.getAnnotationMirrors().stream().anyMatch(o -> ((TypeElement) o.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation));
+    }
+
+}
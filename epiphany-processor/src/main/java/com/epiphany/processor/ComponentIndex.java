@@ -0,0 +1,66 @@
+package com.epiphany.processor;
+
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.*;
+
+import static java.util.stream.Collectors.joining;
+
+final class ComponentIndex {
+
+    static final String LOCATION = "META-INF/epiphany/";
+    private static final String INJECT = "com.epiphany.context.Inject";
+    private static final String INJECTION = "com.epiphany.context.Injection";
+
+    private final TypeElement component;
+    private final Elements elements;
+    private final Types types;
+
+    public ComponentIndex(final TypeElement component, final Elements elements, final Types types) {
+        this.component = component;
+        this.elements = elements;
+        this.types = types;
+    }
+
+    public TypeElement component() {
+        return component;
+    }
+
+    public String name() {
+        return LOCATION + elements.getBinaryName(component);
+    }
+
+    public String write() {
+        StringBuilder index = new StringBuilder();
+        for (Element member : component.getEnclosedElements()) {
+            if (ComponentFactory.annotated(member, INJECT)) index.append("inject ").append(key(member)).append('\n');
+            if (ComponentFactory.annotated(member, INJECTION)) index.append("injection ").append(key(member)).append('\n');
+        }
+        return index.toString();
+    }
+
+    private String key(final Element member) {
+        if (member.getKind() == ElementKind.FIELD) return member.getSimpleName() + descriptor(member.asType());
+        ExecutableElement executable = (ExecutableElement) member;
+        String parameters = executable.getParameters().stream().map(o -> descriptor(o.asType())).collect(joining("", "(", ")"));
+        return executable.getSimpleName() + parameters + descriptor(executable.getReturnType());
+    }
+
+    private String descriptor(final TypeMirror type) {
+        TypeMirror erased = types.erasure(type);
+        return switch (erased.getKind()) {
+            case BOOLEAN -> "Z";
+            case BYTE -> "B";
+            case SHORT -> "S";
+            case INT -> "I";
+            case LONG -> "J";
+            case CHAR -> "C";
+            case FLOAT -> "F";
+            case DOUBLE -> "D";
+            case VOID -> "V";
+            case ARRAY -> "[" + descriptor(((ArrayType) erased).getComponentType());
+            default -> "L" + elements.getBinaryName((TypeElement) types.asElement(erased)).toString().replace('.', '/') + ";";
+        };
+    }
+
+}
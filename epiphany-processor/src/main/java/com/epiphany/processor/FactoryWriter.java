@@ -0,0 +1,139 @@
+package com.epiphany.processor;
+
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import java.util.*;
+
+import static java.util.stream.Collectors.joining;
+
+final class FactoryWriter {
+
+    private static final String SINGLETON = "com.epiphany.context.Singleton";
+    private static final String LIST = "java.util.List";
+
+    private final TypeElement component;
+    private final Elements elements;
+    private final TypeNames names;
+    private final StringBuilder source;
+
+    public FactoryWriter(final TypeElement component, final Elements elements, final TypeNames names) {
+        this.component = component;
+        this.elements = elements;
+        this.names = names;
+        this.source = new StringBuilder();
+    }
+
+    public String write(final ExecutableElement constructor, final List<VariableElement> fields, final List<ExecutableElement> methods, final List<ExecutableElement> injections) {
+        String type = component.getQualifiedName().toString();
+        List<TypeMirror> dependencies = new ArrayList<>();
+        String construction = "        return new " + type + "(" + arguments(constructor.getParameters(), dependencies) + ");\n";
+        StringBuilder fieldInjection = new StringBuilder();
+        fields.forEach(field -> fieldInjection.append("        ").append(target(field)).append(".").append(field.getSimpleName()).append(" = ").append(argument(field.asType(), dependencies)).append(";\n"));
+        StringBuilder methodInjection = new StringBuilder();
+        methods.forEach(method -> methodInjection.append("        instance.").append(method.getSimpleName()).append("(").append(arguments(method.getParameters(), dependencies)).append(");\n"));
+        line(header());
+        line("@javax.annotation.processing.Generated(\"" + InjectionProcessor.class.getName() + "\")");
+        line("public final class " + simpleName() + " implements com.epiphany.context.InjectionFactory<" + type + "> {");
+        line("");
+        dependencies("    ", dependencies);
+        line("");
+        line("    @Override");
+        line("    public " + type + " create(final Object[] arguments) throws Exception {");
+        line("        " + type + " instance = construct(arguments);");
+        line("        injectFields(instance, arguments);");
+        line("        injectMethods(instance, arguments);");
+        line("        return instance;");
+        line("    }");
+        line("");
+        line("    @Override");
+        line("    public " + type + " construct(final Object[] arguments) throws Exception {");
+        source.append(construction);
+        line("    }");
+        line("");
+        line("    @Override");
+        line("    public void injectFields(final " + type + " instance, final Object[] arguments) {");
+        source.append(fieldInjection);
+        line("    }");
+        line("");
+        line("    @Override");
+        line("    public void injectMethods(final " + type + " instance, final Object[] arguments) throws Exception {");
+        source.append(methodInjection);
+        line("    }");
+        line("");
+        injections(injections);
+        line("}");
+        return source.toString();
+    }
+
+    private void injections(final List<ExecutableElement> injections) {
+        if (injections.isEmpty()) return;
+        line("    @Override");
+        line("    public " + LIST + "<com.epiphany.context.InjectionMethod<?>> injections() {");
+        line("        return " + LIST + ".<com.epiphany.context.InjectionMethod<?>>of(");
+        for (int i = 0; i < injections.size(); i++) injection(injections.get(i), i == injections.size() - 1 ? "" : ",");
+        line("        );");
+        line("    }");
+        line("");
+    }
+
+    private void injection(final ExecutableElement method, final String separator) {
+        String type = names.boxed(method.getReturnType());
+        List<TypeMirror> dependencies = new ArrayList<>();
+        String arguments = arguments(method.getParameters(), dependencies);
+        line("            new com.epiphany.context.InjectionMethod<" + type + ">() {");
+        line("                @Override");
+        line("                public Class<?> type() {");
+        line("                    return " + names.name(method.getReturnType()) + ".class;");
+        line("                }");
+        line("");
+        line("                @Override");
+        line("                public com.epiphany.context.Scope scope() {");
+        line("                    return com.epiphany.context.Scope." + (ComponentFactory.annotated(method, SINGLETON) ? "SINGLETON" : "PROTOTYPE") + ";");
+        line("                }");
+        line("");
+        dependencies("                ", dependencies);
+        line("");
+        line("                @Override");
+        line("                public " + type + " invoke(final Object injections, final Object[] arguments) throws Exception {");
+        line("                    return ((" + component.getQualifiedName() + ") injections)." + method.getSimpleName() + "(" + arguments + ");");
+        line("                }");
+        line("            }" + separator);
+    }
+
+    private void dependencies(final String indent, final List<TypeMirror> dependencies) {
+        line(indent + "@Override");
+        line(indent + "public " + LIST + "<Class<?>> dependencies() {");
+        line(indent + "    return " + LIST + ".<Class<?>>of(" + dependencies.stream().map(o -> names.name(o) + ".class").collect(joining(", ")) + ");");
+        line(indent + "}");
+    }
+
+    private String arguments(final List<? extends VariableElement> parameters, final List<TypeMirror> dependencies) {
+        return parameters.stream().map(parameter -> argument(parameter.asType(), dependencies)).collect(joining(", "));
+    }
+
+    private String argument(final TypeMirror type, final List<TypeMirror> dependencies) {
+        dependencies.add(type);
+        return "(" + names.name(type) + ") arguments[" + (dependencies.size() - 1) + "]";
+    }
+
+    private String target(final VariableElement field) {
+        if (field.getEnclosingElement().equals(component)) return "instance";
+        return "((" + ((TypeElement) field.getEnclosingElement()).getQualifiedName() + ") instance)";
+    }
+
+    private String header() {
+        PackageElement pkg = elements.getPackageOf(component);
+        return pkg.isUnnamed() ? "" : "package " + pkg.getQualifiedName() + ";\n";
+    }
+
+    private String simpleName() {
+        String name = elements.getBinaryName(component).toString();
+        return name.substring(name.lastIndexOf('.') + 1) + ComponentFactory.SUFFIX;
+    }
+
+    private void line(final String line) {
+        source.append(line).append("\n");
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.epiphany.processor;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.tools.*;
+import java.io.*;
+import java.util.Set;
+
+@SupportedAnnotationTypes({"com.epiphany.context.Inject", "com.epiphany.context.Injections"})
+public final class InjectionProcessor extends AbstractProcessor {
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment round) {
+        annotations.stream().flatMap(annotation -> round.getElementsAnnotatedWith(annotation).stream())
+            .map(InjectionProcessor::component)
+            .distinct()
+            .forEach(component -> {
+                write(new ComponentFactory(component, processingEnv));
+                write(new ComponentIndex(component, processingEnv.getElementUtils(), processingEnv.getTypeUtils()));
+            });
+        return false;
+    }
+
+    private void write(final ComponentIndex index) {
+        try (Writer writer = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", index.name(), index.component()).openWriter()) {
+            writer.write(index.write());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), index.component());
+        }
+    }
+
+    private void write(final ComponentFactory factory) {
+        factory.source().ifPresent(source -> {
+            try (Writer writer = processingEnv.getFiler().createSourceFile(factory.name(), factory.component()).openWriter()) {
+                writer.write(source);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), factory.component());
+            }
+        });
+    }
+
+    private static TypeElement component(final Element element) {
+        if (element instanceof TypeElement) return (TypeElement) element;
+        return (TypeElement) element.getEnclosingElement();
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.epiphany.processor;
+
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.*;
+
+import static javax.lang.model.element.Modifier.*;
+
+final class TypeNames {
+
+    private final Elements elements;
+    private final Types types;
+    private final PackageElement pkg;
+
+    public TypeNames(final Elements elements, final Types types, final PackageElement pkg) {
+        this.elements = elements;
+        this.types = types;
+        this.pkg = pkg;
+    }
+
+    public boolean representable(final TypeMirror type) {
+        if (type.getKind().isPrimitive()) return true;
+        if (type.getKind() == TypeKind.ARRAY) return representable(((ArrayType) type).getComponentType());
+        if (type.getKind() != TypeKind.DECLARED) return false;
+        return ((DeclaredType) type).getTypeArguments().isEmpty() && visible(types.asElement(type));
+    }
+
+    public boolean visible(final Element type) {
+        for (Element current = type; current instanceof TypeElement; current = current.getEnclosingElement())
+            if (current.getModifiers().contains(PRIVATE) || !(current.getModifiers().contains(PUBLIC) || samePackage(current))) return false;
+        return true;
+    }
+
+    public boolean accessible(final Element member) {
+        if (member.getModifiers().contains(PRIVATE)) return false;
+        return member.getModifiers().contains(PUBLIC) || samePackage(member.getEnclosingElement());
+    }
+
+    public String name(final TypeMirror type) {
+        if (type.getKind().isPrimitive()) return type.getKind().name().toLowerCase();
+        if (type.getKind() == TypeKind.ARRAY) return name(((ArrayType) type).getComponentType()) + "[]";
+        return ((TypeElement) types.asElement(type)).getQualifiedName().toString();
+    }
+
+    public String boxed(final TypeMirror type) {
+        if (type.getKind().isPrimitive()) return types.boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        return name(type);
+    }
+
+    private boolean samePackage(final Element element) {
+        return elements.getPackageOf(element).equals(pkg);
+    }
+
+}
@@ -0,0 +1,516 @@
+package com.epiphany.processor;
+
+import com.epiphany.context.*;
+import com.epiphany.processor.source.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import javax.tools.*;
+import java.net.*;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("all")
+public class InjectionProcessorTest {
+
+    private @TempDir Path output;
+    private final Dependency dependency = new Dependency() {};
+
+    @Nested
+    public class ComponentFactory {
+
+        @ParameterizedTest(name = "supporting {0}")
+        @MethodSource
+        void should_generate_factory_for_injectable_component(String component, JavaFileObject source) throws Exception {
+            InjectionFactory<?> factory = factory(compile(source), component);
+            assertEquals(List.of(Dependency.class), factory.dependencies());
+            assertSame(dependency, ((Something) factory.create(new Object[]{dependency})).dependency());
+        }
+
+        public static Stream<Arguments> should_generate_factory_for_injectable_component() {
+            return Stream.of(
+                Arguments.of(Named.of("Constructor Injection", "sample.ConstructorInjection"), source("sample.ConstructorInjection", """
+                    package sample;
+                    import com.epiphany.context.Inject;
+                    import com.epiphany.processor.source.*;
+                    public class ConstructorInjection implements Something {
+                        private final Dependency dependency;
+                        @Inject
+                        public ConstructorInjection(Dependency dependency) { this.dependency = dependency; }
+                        public Dependency dependency() { return dependency; }
+                    }
+                    """)),
+                Arguments.of(Named.of("Field Injection", "sample.FieldInjection"), source("sample.FieldInjection", """
+                    package sample;
+                    import com.epiphany.context.Inject;
+                    import com.epiphany.processor.source.*;
+                    public class FieldInjection implements Something {
+                        @Inject Dependency dependency;
+                        public Dependency dependency() { return dependency; }
+                    }
+                    """)),
+                Arguments.of(Named.of("Method Injection", "sample.MethodInjection"), source("sample.MethodInjection", """
+                    package sample;
+                    import com.epiphany.context.Inject;
+                    import com.epiphany.processor.source.*;
+                    public class MethodInjection implements Something {
+                        private Dependency dependency;
+                        @Inject
+                        protected long install(Dependency dependency) { this.dependency = dependency; return 0L; }
+                        public Dependency dependency() { return dependency; }
+                    }
+                    """)),
+                Arguments.of(Named.of("Nested Component", "sample.Outer$NestedInjection"), source("sample.Outer", """
+                    package sample;
+                    import com.epiphany.context.Inject;
+                    import com.epiphany.processor.source.*;
+                    public class Outer {
+                        public static class NestedInjection implements Something {
+                            @Inject Dependency dependency;
+                            public Dependency dependency() { return dependency; }
+                        }
+                    }
+                    """)),
+                Arguments.of(Named.of("Unnamed Package", "UnnamedPackageInjection"), source("UnnamedPackageInjection", """
+                    import com.epiphany.context.Inject;
+                    import com.epiphany.processor.source.*;
+                    public class UnnamedPackageInjection implements Something {
+                        @Inject public Dependency dependency;
+                        public Dependency dependency() { return dependency; }
+                    }
+                    """))
+            );
+        }
+
+        @Test
+        void should_generate_construction_and_injection_phases_separately() throws Exception {
+            InjectionFactory<Object> factory = (InjectionFactory<Object>) factory(compile(source("sample.PhasedInjection", """
+                package sample;
+                import com.epiphany.context.Inject;
+                import com.epiphany.processor.source.*;
+                import java.util.*;
+                public class PhasedInjection implements Something, Injected {
+                    private final List<String> injected = new ArrayList<>();
+                    @Inject Dependency dependency;
+                    @Inject public PhasedInjection(Dependency dependency) { injected.add("constructor"); }
+                    @Inject void install(Dependency dependency) { injected.add(this.dependency == null ? "install" : "install after fields"); }
+                    public Dependency dependency() { return dependency; }
+                    public List<String> injected() { return injected; }
+                }
+                """)), "sample.PhasedInjection");
+            Object[] arguments = {dependency, dependency, dependency};
+            Object component = factory.construct(arguments);
+            assertNull(((Something) component).dependency());
+            assertThat(((Injected) component).injected()).containsExactly("constructor");
+            factory.injectFields(component, arguments);
+            assertSame(dependency, ((Something) component).dependency());
+            factory.injectMethods(component, arguments);
+            assertThat(((Injected) component).injected()).containsExactly("constructor", "install after fields");
+        }
+
+        @Test
+        void should_inject_superclass_members_and_skip_overridden_inject_methods() throws Exception {
+            ClassLoader loader = compile(source("sample.SuperClass", """
+                package sample;
+                import com.epiphany.context.Inject;
+                import com.epiphany.processor.source.*;
+                import java.util.*;
+                public class SuperClass implements Something, Injected {
+                    protected final List<String> injected = new ArrayList<>();
+                    @Inject Dependency dependency;
+                    @Inject void install(Dependency dependency) { injected.add("super.install"); }
+                    @Inject void override(Dependency dependency) { injected.add("super.override"); }
+                    @Inject void overrideWithoutInject() { injected.add("super.overrideWithoutInject"); }
+                    public Dependency dependency() { return dependency; }
+                    public List<String> injected() { return injected; }
+                }
+                """), source("sample.SubClass", """
+                package sample;
+                import com.epiphany.context.Inject;
+                import com.epiphany.processor.source.*;
+                public class SubClass extends SuperClass {
+                    @Inject void override(Dependency dependency) { injected.add("sub.override"); }
+                    @Inject void install() { injected.add("sub.install"); }
+                    void overrideWithoutInject() { injected.add("sub.overrideWithoutInject"); }
+                }
+                """));
+            Object component = factory(loader, "sample.SubClass").create(new Object[]{dependency, dependency, dependency});
+            assertSame(dependency, ((Something) component).dependency());
+            assertThat(((Injected) component).injected()).containsExactly("super.install", "sub.install", "sub.override");
+        }
+
+        @Test
+        void should_generate_factory_for_primitive_and_array_injection_points() throws Exception {
+            ClassLoader loader = compile(source("sample.PrimitiveInjection", """
+                package sample;
+                import com.epiphany.context.Inject;
+                import com.epiphany.processor.source.*;
+                public class PrimitiveInjection {
+                    @Inject int value;
+                    @Inject Dependency[] dependencies;
+                }
+                """));
+            InjectionFactory<?> factory = factory(loader, "sample.PrimitiveInjection");
+            assertEquals(List.of(int.class, Dependency[].class), factory.dependencies());
+            assertNotNull(factory.create(new Object[]{1, new Dependency[]{dependency}}));
+        }
+
+        @Test
+        void should_generate_factory_for_package_private_type_in_same_package() throws Exception {
+            ClassLoader loader = compile(source("sample.PackagePrivateInjection", """
+                package sample;
+                import com.epiphany.context.Inject;
+                public class PackagePrivateInjection {
+                    @Inject Hidden hidden;
+                    static class Hidden {}
+                }
+                """));
+            InjectionFactory<?> factory = factory(loader, "sample.PackagePrivateInjection");
+            assertEquals(List.of(loader.loadClass("sample.PackagePrivateInjection$Hidden")), factory.dependencies());
+            assertNotNull(factory.create(new Object[]{null}));
+        }
+
+        @Test
+        void should_report_error_if_factory_cannot_be_written() throws Exception {
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            assertFalse(compiles(diagnostics, source("sample.Component", """
+                package sample;
+                import com.epiphany.context.Inject;
+                import com.epiphany.processor.source.*;
+                public class Component { @Inject Dependency dependency; }
+                """), source("sample.Component$$Factory", """
+                package sample;
+                public class Component$$Factory {}
+                """)));
+            assertTrue(diagnostics.getDiagnostics().stream().anyMatch(o -> o.getKind() == Diagnostic.Kind.ERROR && o.getMessage(null).contains("sample.Component$$Factory")));
+        }
+
+        @Test
+        void should_bind_component_using_generated_factory() throws Exception {
+            ClassLoader loader = compile(source("sample.Component", """
+                package sample;
+                import com.epiphany.context.Inject;
+                import com.epiphany.processor.source.*;
+                public class Component implements Something {
+                    @Inject Dependency dependency;
+                    public Dependency dependency() { return dependency; }
+                }
+                """));
+            ContextConfig config = new ContextConfig();
+            config.bind(Dependency.class, dependency);
+            config.bind(Something.class, loader.loadClass("sample.Component").asSubclass(Something.class));
+            assertSame(dependency, config.context().get(Something.class).get().dependency());
+        }
+
+        @Test
+        void should_wrap_checked_exception_thrown_by_generated_factory() throws Exception {
+            ClassLoader loader = compile(source("sample.ThrowingComponent", """
+                package sample;
+                import com.epiphany.context.Inject;
+                import com.epiphany.processor.source.*;
+                public class ThrowingComponent implements Something {
+                    @Inject
+                    public ThrowingComponent(Dependency dependency) throws Exception { throw new Exception(); }
+                    public Dependency dependency() { return null; }
+                }
+                """));
+            ContextConfig config = new ContextConfig();
+            config.bind(Dependency.class, dependency);
+            config.bind(Something.class, loader.loadClass("sample.ThrowingComponent").asSubclass(Something.class));
+            Context context = config.context();
+            RuntimeException exception = assertThrows(RuntimeException.class, () -> context.get(Something.class));
+            assertThat(exception.getCause()).isInstanceOf(Exception.class);
+        }
+
+        @Test
+        void should_not_include_dependency_construction_in_generated_factory_time() throws Exception {
+            ClassLoader loader = compile(source("sample.Component", """
+                package sample;
+                import com.epiphany.context.Inject;
+                import com.epiphany.processor.source.*;
+                public class Component implements Something {
+                    @Inject Dependency dependency;
+                    public Dependency dependency() { return dependency; }
+                }
+                """), source("sample.SlowInjections", """
+                package sample;
+                import com.epiphany.context.*;
+                import com.epiphany.processor.source.*;
+                public @Injections class SlowInjections {
+                    public @Injection Dependency dependency() {
+                        try {
+                            Thread.sleep(50);
+                        } catch (InterruptedException e) {
+                            throw new IllegalStateException(e);
+                        }
+                        return new Dependency() {};
+                    }
+                }
+                """));
+            assertNotNull(factory(loader, "sample.Component"));
+            assertNotNull(factory(loader, "sample.SlowInjections"));
+            ContextConfig config = new ContextConfig();
+            config.enableMetrics();
+            bind(config, loader.loadClass("sample.SlowInjections"));
+            config.bind(Something.class, loader.loadClass("sample.Component").asSubclass(Something.class));
+            Context context = config.context();
+            context.get(Something.class);
+            assertThat(context.metrics().get(Dependency.class).constructorTime()).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+            assertThat(context.metrics().get(Something.class).constructorTime()).isLessThan(Duration.ofMillis(50));
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource
+        void should_not_generate_factory_if_component_requires_reflection(String component, List<JavaFileObject> sources) throws Exception {
+            ClassLoader loader = compile(sources.toArray(JavaFileObject[]::new));
+            assertThrows(ClassNotFoundException.class, () -> loader.loadClass(component + InjectionFactory.SUFFIX));
+        }
+
+        public static Stream<Arguments> should_not_generate_factory_if_component_requires_reflection() {
+            return Stream.of(
+                unsupported("private field", "PrivateField", "public class PrivateField { @Inject private Dependency dependency; }"),
+                unsupported("private method", "PrivateMethod", "public class PrivateMethod { @Inject private void install(Dependency dependency) {} }"),
+                unsupported("final field", "FinalField", "public class FinalField { @Inject final Dependency dependency = null; }"),
+                unsupported("static field", "StaticField", "public class StaticField { @Inject static Dependency dependency; }"),
+                unsupported("parameterized type", "ParameterizedType", "public class ParameterizedType { @Inject java.util.List<Dependency> dependencies; }"),
+                unsupported("generic inject method", "GenericMethod", "public class GenericMethod { @Inject <T> void install(Dependency dependency) {} }"),
+                unsupported("private type", "PrivateType", "public class PrivateType { @Inject Hidden hidden; private static class Hidden {} }"),
+                unsupported("non public constructor", "NonPublicConstructor", "public class NonPublicConstructor { @Inject Dependency dependency; NonPublicConstructor() {} }"),
+                unsupported("more than one inject constructor", "MoreInjectConstructors", "public class MoreInjectConstructors { @Inject public MoreInjectConstructors() {} @Inject public MoreInjectConstructors(Dependency dependency) {} }"),
+                unsupported("private injection method", "PrivateInjection", "@com.epiphany.context.Injections public class PrivateInjection { @com.epiphany.context.Injection private Dependency dependency() { return null; } }"),
+                unsupported("void injection method", "VoidInjection", "@com.epiphany.context.Injections public class VoidInjection { @com.epiphany.context.Injection void dependency() {} }"),
+                unsupported("generic component", "GenericComponent", "public class GenericComponent<T> { @Inject Dependency dependency; }"),
+                unsupported("abstract component", "AbstractComponent", "public abstract class AbstractComponent { @Inject Dependency dependency; }"),
+                unsupported("interface", "InterfaceComponent", "public interface InterfaceComponent { @Inject default void install(Dependency dependency) {} }"),
+                unsupported("lazy field", "LazyField", "public class LazyField { @Inject @com.epiphany.context.Lazy Dependency dependency; }"),
+                unsupported("lazy parameter", "LazyParameter", "public class LazyParameter { @Inject public LazyParameter(@com.epiphany.context.Lazy Dependency dependency) {} }"),
+                unsupported("static method", "StaticMethod", "public class StaticMethod { @Inject static void install(Dependency dependency) {} }"),
+                unsupported("parameterized method parameter", "ParameterizedParameter", "public class ParameterizedParameter { @Inject void install(java.util.List<Dependency> dependencies) {} }"),
+                unsupported("lazy method parameter", "LazyMethodParameter", "public class LazyMethodParameter { @Inject void install(@com.epiphany.context.Lazy Dependency dependency) {} }"),
+                unsupported("static injection method", "StaticInjection", "@com.epiphany.context.Injections public class StaticInjection { @com.epiphany.context.Injection static Dependency dependency() { return null; } }"),
+                unsupported("generic injection method", "GenericInjection", "@com.epiphany.context.Injections public class GenericInjection { @com.epiphany.context.Injection <T> Dependency dependency() { return null; } }"),
+                unsupported("parameterized injection parameter", "ParameterizedInjection", "@com.epiphany.context.Injections public class ParameterizedInjection { @com.epiphany.context.Injection Dependency dependency(java.util.List<Dependency> dependencies) { return null; } }"),
+                Arguments.of(Named.of("inner class", "sample.Outer$Inner"), List.of(source("sample.Outer", """
+                    package sample;
+                    import com.epiphany.context.Inject;
+                    import com.epiphany.processor.source.*;
+                    public class Outer { public class Inner { @Inject Dependency dependency; } }
+                    """))),
+                Arguments.of(Named.of("protected superclass member from another package", "sample.SubClass"), List.of(source("parent.SuperClass", """
+                    package parent;
+                    import com.epiphany.context.Inject;
+                    import com.epiphany.processor.source.*;
+                    public class SuperClass { @Inject protected Dependency dependency; }
+                    """), source("sample.SubClass", """
+                    package sample;
+                    import com.epiphany.context.Inject;
+                    import com.epiphany.processor.source.*;
+                    public class SubClass extends parent.SuperClass { @Inject Dependency another; }
+                    """))),
+                Arguments.of(Named.of("private nested component", "sample.PrivateNested$Hidden"), List.of(source("sample.PrivateNested", """
+                    package sample;
+                    import com.epiphany.context.Inject;
+                    import com.epiphany.processor.source.*;
+                    public class PrivateNested { private static class Hidden { @Inject Dependency dependency; } }
+                    """))),
+                Arguments.of(Named.of("member of private superclass", "sample.PrivateSuperClass$Sub"), List.of(source("sample.PrivateSuperClass", """
+                    package sample;
+                    import com.epiphany.context.Inject;
+                    import com.epiphany.processor.source.*;
+                    public class PrivateSuperClass { public static class Sub extends Base { @Inject Dependency another; } private static class Base { @Inject public Dependency dependency; } }
+                    """))),
+                Arguments.of(Named.of("package private type from another package", "sample.HiddenTypeSubClass"), List.of(source("parent.HiddenTypeSuperClass", """
+                    package parent;
+                    import com.epiphany.context.Inject;
+                    public class HiddenTypeSuperClass { @Inject public Hidden hidden; static class Hidden {} }
+                    """), source("sample.HiddenTypeSubClass", """
+                    package sample;
+                    import com.epiphany.context.Inject;
+                    import com.epiphany.processor.source.*;
+                    public class HiddenTypeSubClass extends parent.HiddenTypeSuperClass { @Inject Dependency another; }
+                    """)))
+            );
+        }
+
+        @Test
+        void should_fall_back_to_reflection_if_factory_not_generated() throws Exception {
+            ClassLoader loader = compile(source("sample.PrivateField", """
+                package sample;
+                import com.epiphany.context.Inject;
+                import com.epiphany.processor.source.*;
+                public class PrivateField implements Something {
+                    @Inject private Dependency dependency;
+                    public Dependency dependency() { return dependency; }
+                }
+                """));
+            ContextConfig config = new ContextConfig();
+            config.bind(Dependency.class, dependency);
+            config.bind(Something.class, loader.loadClass("sample.PrivateField").asSubclass(Something.class));
+            assertSame(dependency, config.context().get(Something.class).get().dependency());
+        }
+
+        @Test
+        void should_write_index_of_declared_injection_points() throws Exception {
+            ClassLoader loader = compile(source("sample.IndexedComponent", """
+                package sample;
+                import com.epiphany.context.Inject;
+                import com.epiphany.processor.source.*;
+                public class IndexedComponent {
+                    @Inject private Dependency dependency;
+                    private Dependency ignored;
+                    @Inject public IndexedComponent(int[] values) {}
+                    @Inject <T extends Dependency> long install(T dependency, java.util.List<String> names) { return 0L; }
+                }
+                """));
+            try (var index = loader.getResourceAsStream("META-INF/epiphany/sample.IndexedComponent")) {
+                assertThat(new String(index.readAllBytes())).isEqualTo("""
+                    inject dependencyLcom/epiphany/processor/source/Dependency;
+                    inject <init>([I)V
+                    inject install(Lcom/epiphany/processor/source/Dependency;Ljava/util/List;)J
+                    """);
+            }
+        }
+
+        @Test
+        void should_write_index_of_primitive_injection_points() throws Exception {
+            ClassLoader loader = compile(source("sample.PrimitiveComponent", """
+                package sample;
+                import com.epiphany.context.Inject;
+                public class PrimitiveComponent {
+                    @Inject boolean flag;
+                    @Inject byte octet;
+                    @Inject short small;
+                    @Inject char letter;
+                    @Inject float ratio;
+                    @Inject double scale;
+                    @Inject void install(int count, long total) {}
+                }
+                """));
+            try (var index = loader.getResourceAsStream("META-INF/epiphany/sample.PrimitiveComponent")) {
+                assertThat(new String(index.readAllBytes())).isEqualTo("""
+                    inject flagZ
+                    inject octetB
+                    inject smallS
+                    inject letterC
+                    inject ratioF
+                    inject scaleD
+                    inject install(IJ)V
+                    """);
+            }
+        }
+
+        @Test
+        void should_report_error_if_index_cannot_be_written() throws Exception {
+            Files.createDirectories(output.resolve("META-INF"));
+            Files.writeString(output.resolve("META-INF/epiphany"), "");
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            assertFalse(compiles(diagnostics, source("sample.Component", """
+                package sample;
+                import com.epiphany.context.Inject;
+                import com.epiphany.processor.source.*;
+                public class Component { @Inject Dependency dependency; }
+                """)));
+            assertTrue(diagnostics.getDiagnostics().stream().anyMatch(o -> o.getKind() == Diagnostic.Kind.ERROR));
+        }
+
+        @Test
+        void should_inject_reflectively_using_written_index() throws Exception {
+            ClassLoader loader = compile(source("sample.PrivateMethod", """
+                package sample;
+                import com.epiphany.context.Inject;
+                import com.epiphany.processor.source.*;
+                public class PrivateMethod implements Something {
+                    private Dependency dependency;
+                    @Inject private void install(Dependency dependency) { this.dependency = dependency; }
+                    public Dependency dependency() { return dependency; }
+                }
+                """));
+            assertThrows(ClassNotFoundException.class, () -> loader.loadClass("sample.PrivateMethod" + InjectionFactory.SUFFIX));
+            assertNotNull(loader.getResource("META-INF/epiphany/sample.PrivateMethod"));
+            ContextConfig config = new ContextConfig();
+            config.bind(Dependency.class, dependency);
+            config.bind(Something.class, loader.loadClass("sample.PrivateMethod").asSubclass(Something.class));
+            assertSame(dependency, config.context().get(Something.class).get().dependency());
+        }
+
+        private static Arguments unsupported(String name, String component, String declaration) {
+            return Arguments.of(Named.of(name, "sample." + component), List.of(source("sample." + component, """
+                package sample;
+                import com.epiphany.context.Inject;
+                import com.epiphany.processor.source.*;
+                """ + declaration)));
+        }
+
+    }
+
+    @Nested
+    public class InjectionsFactory {
+
+        @Test
+        void should_register_injection_methods_using_generated_factory() throws Exception {
+            ClassLoader loader = compile(source("sample.SampleInjections", """
+                package sample;
+                import com.epiphany.context.*;
+                import com.epiphany.processor.source.*;
+                @Injections
+                public class SampleInjections {
+                    @Singleton @Injection Dependency dependency() { return new Dependency() {}; }
+                    @Injection Something something(Dependency dependency) { return () -> dependency; }
+                    @Injection int count() { return 1; }
+                }
+                """));
+            Class<?> injections = loader.loadClass("sample.SampleInjections");
+            assertEquals(3, factory(loader, "sample.SampleInjections").injections().size());
+            ContextConfig config = new ContextConfig();
+            bind(config, injections);
+            Context context = config.context();
+            assertSame(context.get(Dependency.class).get(), context.get(Dependency.class).get());
+            assertNotSame(context.get(Something.class).get(), context.get(Something.class).get());
+            assertSame(context.get(Dependency.class).get(), context.get(Something.class).get().dependency());
+            assertEquals(Optional.of(1), context.get(int.class));
+        }
+
+        private <Type> void bind(ContextConfig config, Class<Type> type) {
+            config.bind(type, type);
+        }
+
+    }
+
+    private ClassLoader compile(JavaFileObject... sources) throws Exception {
+        assertTrue(compiles(null, sources));
+        return new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private boolean compiles(DiagnosticListener<JavaFileObject> diagnostics, JavaFileObject... sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> options = List.of("-d", output.toString(), "-s", output.toString(), "-classpath", System.getProperty("java.class.path"));
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null, List.of(sources));
+        task.setProcessors(List.of(new InjectionProcessor()));
+        return task.call();
+    }
+
+    private static <Type> void bind(ContextConfig config, Class<Type> component) {
+        config.bind(component, component);
+    }
+
+    private static InjectionFactory<?> factory(ClassLoader loader, String component) throws Exception {
+        return (InjectionFactory<?>) loader.loadClass(component + InjectionFactory.SUFFIX).getConstructor().newInstance();
+    }
+
+    private static JavaFileObject source(String name, String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + name.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,4 @@
+package com.epiphany.processor.source;
+
+public interface Dependency {
+}
@@ -0,0 +1,9 @@
+package com.epiphany.processor.source;
+
+import java.util.List;
+
+public interface Injected {
+
+    List<String> injected();
+
+}
@@ -0,0 +1,7 @@
+package com.epiphany.processor.source;
+
+public interface Something {
+
+    Dependency dependency();
+
+}
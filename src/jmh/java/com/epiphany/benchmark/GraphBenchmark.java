@@ -0,0 +1,42 @@
+package com.epiphany.benchmark;
+
+import com.epiphany.context.*;
+import com.epiphany.context.graph.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraphBenchmark {
+
+    @Param({"CHAIN", "DIAMOND", "FAN_OUT", "HIERARCHY", "INJECTIONS"})
+    private Shape shape;
+
+    @Param({"10", "100", "1000"})
+    private int bindings;
+
+    @Param({"REFLECTION", "METHOD_HANDLE", "HIDDEN_CLASS"})
+    private Invocation invocation;
+
+    private Context context;
+    private Class<?> root;
+
+    @Setup
+    public void setUp() throws Exception {
+        CompiledGraph graph = shape.generate(bindings).compile(Files.createTempDirectory("epiphany-graph"));
+        context = graph.bind(new ContextConfig(invocation)).context();
+        root = graph.root();
+    }
+
+    @Benchmark
+    public Object resolve() {
+        return context.get(root).get();
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.epiphany.benchmark;
+
+import com.epiphany.context.Inject;
+
+@SuppressWarnings("unused")
+public class GraphComponents {
+
+    public static class Deep0 {
+    }
+
+    public static class Deep1 {
+
+        public @Inject Deep1(final Deep0 dependency) {
+        }
+
+    }
+
+    public static class Deep2 {
+
+        public @Inject Deep2(final Deep1 dependency) {
+        }
+
+    }
+
+    public static class Deep3 {
+
+        public @Inject Deep3(final Deep2 dependency) {
+        }
+
+    }
+
+    public static class Deep4 {
+
+        public @Inject Deep4(final Deep3 dependency) {
+        }
+
+    }
+
+    public static class Deep5 {
+
+        public @Inject Deep5(final Deep4 dependency) {
+        }
+
+    }
+
+    public static class Deep6 {
+
+        public @Inject Deep6(final Deep5 dependency) {
+        }
+
+    }
+
+    public static class Deep7 {
+
+        public @Inject Deep7(final Deep6 dependency) {
+        }
+
+    }
+
+    public static class Leaf0 {
+    }
+
+    public static class Leaf1 {
+    }
+
+    public static class Leaf2 {
+    }
+
+    public static class Leaf3 {
+    }
+
+    public static class Leaf4 {
+    }
+
+    public static class Leaf5 {
+    }
+
+    public static class Leaf6 {
+    }
+
+    public static class Leaf7 {
+    }
+
+    public static class Wide {
+
+        public @Inject Wide(final Leaf0 leaf0, final Leaf1 leaf1, final Leaf2 leaf2, final Leaf3 leaf3, final Leaf4 leaf4, final Leaf5 leaf5, final Leaf6 leaf6, final Leaf7 leaf7) {
+        }
+
+    }
+
+}
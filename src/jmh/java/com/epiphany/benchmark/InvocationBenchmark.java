@@ -0,0 +1,47 @@
+package com.epiphany.benchmark;
+
+import com.epiphany.context.*;
+import com.epiphany.context.source.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvocationBenchmark {
+
+    @Param({"REFLECTION", "METHOD_HANDLE", "HIDDEN_CLASS"})
+    private Invocation invocation;
+
+    private Context context;
+
+    @Setup
+    public void setUp() {
+        ContextConfig config = new ContextConfig(invocation);
+        config.bind(Dependency.class, new Dependency() {});
+        config.bind(ConstructorInjection.class, ConstructorInjection.class);
+        config.bind(FieldInjection.class, FieldInjection.class);
+        config.bind(MethodInjection.class, MethodInjection.class);
+        context = config.context();
+    }
+
+    @Benchmark
+    public Object constructorInjection() {
+        return context.get(ConstructorInjection.class).get();
+    }
+
+    @Benchmark
+    public Object fieldInjection() {
+        return context.get(FieldInjection.class).get();
+    }
+
+    @Benchmark
+    public Object methodInjection() {
+        return context.get(MethodInjection.class).get();
+    }
+
+}
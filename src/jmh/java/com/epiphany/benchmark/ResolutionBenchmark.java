@@ -0,0 +1,69 @@
+package com.epiphany.benchmark;
+
+import com.epiphany.InjectionProvider;
+import com.epiphany.benchmark.GraphComponents.*;
+import com.epiphany.context.*;
+import com.epiphany.context.source.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResolutionBenchmark {
+
+    @Param({"REFLECTION", "METHOD_HANDLE", "HIDDEN_CLASS"})
+    private Invocation invocation;
+
+    private Context context;
+    private InjectionProvider<Dependency> provider;
+
+    @Setup
+    public void setUp() {
+        ContextConfig config = new ContextConfig(invocation);
+        bind(config, Deep0.class, Deep1.class, Deep2.class, Deep3.class, Deep4.class, Deep5.class, Deep6.class, Deep7.class);
+        bind(config, Leaf0.class, Leaf1.class, Leaf2.class, Leaf3.class, Leaf4.class, Leaf5.class, Leaf6.class, Leaf7.class, Wide.class);
+        bind(config, ProviderInjectConstructor.class, InjectionsWithDependency.class);
+        config.bind(Component.class, new Component() {});
+        context = config.context();
+        provider = context.get(ProviderInjectConstructor.class).get().provider();
+    }
+
+    @Benchmark
+    public Object deepGraph() {
+        return context.get(Deep7.class).get();
+    }
+
+    @Benchmark
+    public Object wideGraph() {
+        return context.get(Wide.class).get();
+    }
+
+    @Benchmark
+    public Object providerInjection() {
+        return context.get(ProviderInjectConstructor.class).get();
+    }
+
+    @Benchmark
+    public Object providerResolution() {
+        return provider.get();
+    }
+
+    @Benchmark
+    public Object injectionMethod() {
+        return context.get(Dependency.class).get();
+    }
+
+    private static void bind(final ContextConfig config, final Class<?>... components) {
+        for (Class<?> component : components) bind(config, component);
+    }
+
+    private static <Type> void bind(final ContextConfig config, final Class<Type> component) {
+        config.bind(component, component);
+    }
+
+}
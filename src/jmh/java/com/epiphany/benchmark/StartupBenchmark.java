@@ -0,0 +1,49 @@
+package com.epiphany.benchmark;
+
+import com.epiphany.context.*;
+import com.epiphany.context.graph.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StartupBenchmark {
+
+    @Param({"CHAIN", "DIAMOND", "FAN_OUT", "HIERARCHY", "INJECTIONS"})
+    private Shape shape;
+
+    @Param({"100", "1000", "10000"})
+    private int bindings;
+
+    private CompiledGraph graph;
+    private CompiledGraph fresh;
+    private ContextConfig config;
+
+    @Setup(Level.Trial)
+    public void generate() throws Exception {
+        graph = shape.generate(bindings).compile(Files.createTempDirectory("epiphany-startup"));
+    }
+
+    @Setup(Level.Invocation)
+    public void bind() throws Exception {
+        config = graph.reload().bind(new ContextConfig());
+        fresh = graph.reload();
+    }
+
+    @Benchmark
+    public Context context() {
+        return config.context();
+    }
+
+    @Benchmark
+    public Context bindAndBuild() {
+        return fresh.bind(new ContextConfig()).context();
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.epiphany;
+
+import java.util.concurrent.CompletableFuture;
+
+@FunctionalInterface
+public interface AsyncInjectionProvider<T> extends InjectionProvider<CompletableFuture<T>> {
+
+}
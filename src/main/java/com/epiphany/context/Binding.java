@@ -0,0 +1,55 @@
+package com.epiphany.context;
+
+import com.epiphany.AsyncInjectionProvider;
+import com.epiphany.InjectionProvider;
+
+import java.util.concurrent.*;
+
+final class Binding implements Resolver {
+
+    private final Provider<?> provider;
+    private final InjectionProvider<?> handle;
+    private final AsyncInjectionProvider<?> asyncHandle;
+
+    public Binding(final Context context, final Provider<?> provider, final Executor executor) {
+        this.provider = provider;
+        this.handle = () -> provider.get(context);
+        this.asyncHandle = () -> provideAsync(context, executor);
+    }
+
+    public Binding(final Context context, final Provider<?> provider, final BindingMetrics metrics, final Executor executor) {
+        this.provider = provider;
+        this.handle = () -> {
+            metrics.provided();
+            return provider.get(context);
+        };
+        this.asyncHandle = () -> {
+            metrics.provided();
+            return provideAsync(context, executor);
+        };
+    }
+
+    @Override
+    public Object resolve(final Context context) {
+        return provider.get(context);
+    }
+
+    @Override
+    public CompletableFuture<?> resolveAsync(final Context context, final Executor executor) {
+        return provideAsync(context, executor);
+    }
+
+    public InjectionProvider<?> handle() {
+        return handle;
+    }
+
+    public AsyncInjectionProvider<?> asyncHandle() {
+        return asyncHandle;
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Object> provideAsync(final Context context, final Executor executor) {
+        return (CompletableFuture<Object>) provider.getAsync(context, executor);
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.epiphany.context;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.*;
+import java.util.function.Supplier;
+
+public final class BindingMetrics {
+
+    private final LongAdder instances;
+    private final LongAdder providerInvocations;
+    private final LongAdder constructorTime;
+    private final LongAdder fieldInjectionTime;
+    private final LongAdder methodInjectionTime;
+    private final LongAccumulator maxConstructorTime;
+    private final LongAccumulator maxFieldInjectionTime;
+    private final LongAccumulator maxMethodInjectionTime;
+
+    BindingMetrics() {
+        this.instances = new LongAdder();
+        this.providerInvocations = new LongAdder();
+        this.constructorTime = new LongAdder();
+        this.fieldInjectionTime = new LongAdder();
+        this.methodInjectionTime = new LongAdder();
+        this.maxConstructorTime = new LongAccumulator(Math::max, 0);
+        this.maxFieldInjectionTime = new LongAccumulator(Math::max, 0);
+        this.maxMethodInjectionTime = new LongAccumulator(Math::max, 0);
+    }
+
+    void created(final long constructor, final long fields, final long methods) {
+        instances.increment();
+        constructorTime.add(constructor);
+        fieldInjectionTime.add(fields);
+        methodInjectionTime.add(methods);
+        maxConstructorTime.accumulate(constructor);
+        maxFieldInjectionTime.accumulate(fields);
+        maxMethodInjectionTime.accumulate(methods);
+    }
+
+    <Type> Type construct(final Supplier<Type> constructor) {
+        long constructing = System.nanoTime();
+        Type instance = constructor.get();
+        created(System.nanoTime() - constructing, 0, 0);
+        return instance;
+    }
+
+    void provided() {
+        providerInvocations.increment();
+    }
+
+    public long instances() {
+        return instances.sum();
+    }
+
+    public long providerInvocations() {
+        return providerInvocations.sum();
+    }
+
+    public Duration constructorTime() {
+        return Duration.ofNanos(constructorTime.sum());
+    }
+
+    public Duration maxConstructorTime() {
+        return Duration.ofNanos(maxConstructorTime.get());
+    }
+
+    public Duration fieldInjectionTime() {
+        return Duration.ofNanos(fieldInjectionTime.sum());
+    }
+
+    public Duration maxFieldInjectionTime() {
+        return Duration.ofNanos(maxFieldInjectionTime.get());
+    }
+
+    public Duration methodInjectionTime() {
+        return Duration.ofNanos(methodInjectionTime.sum());
+    }
+
+    public Duration maxMethodInjectionTime() {
+        return Duration.ofNanos(maxMethodInjectionTime.get());
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.epiphany.context;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+final class Bindings implements Resolvers {
+
+    private final ClassIndex index;
+    private final Provider<?>[] providers;
+    private final Provider<?>[] compiled;
+
+    public Bindings(final ClassIndex index, final Provider<?>[] providers) {
+        this.index = index;
+        this.providers = providers;
+        this.compiled = new Provider<?>[providers.length];
+        Arrays.setAll(compiled, id -> providers[id].compile(this));
+    }
+
+    public int id(final Class<?> type) {
+        return index.id(type);
+    }
+
+    public int size() {
+        return providers.length;
+    }
+
+    public Binding[] bind(final Context context, final BindingMetrics[] metrics, final Executor executor) {
+        Binding[] bindings = new Binding[compiled.length];
+        Arrays.setAll(bindings, id -> metrics.length == 0 ? new Binding(context, compiled[id].fresh(), executor) : new Binding(context, compiled[id].measure(metrics[id]), metrics[id], executor));
+        return bindings;
+    }
+
+    public Map<Class<?>, BindingMetrics> metrics(final BindingMetrics[] metrics) {
+        Map<Class<?>, BindingMetrics> result = new LinkedHashMap<>();
+        for (int id = 0; id < metrics.length; id++) result.put(index.type(id), metrics[id]);
+        return Collections.unmodifiableMap(result);
+    }
+
+    public void initialize(final Context context, final Binding[] bindings, final Executor executor) {
+        new Initialization(index, providers, bindings).run(context, executor);
+    }
+
+    public ComponentGraph graph(final BindingMetrics[] metrics) {
+        return new ComponentGraph(index, providers, metrics);
+    }
+
+    @Override
+    public Resolver of(final java.lang.reflect.Type type) {
+        if (ProviderTypes.provider(type)) return handle(type);
+        return new Slot(index.id(ProviderTypes.raw(type)));
+    }
+
+    private Resolver handle(final java.lang.reflect.Type type) {
+        Class<?> component = ProviderTypes.component(type);
+        int id = index.id(component);
+        if (ProviderTypes.lazy(type)) return context -> LazyProxy.of(component, binding(context, id).handle());
+        if (ProviderTypes.async(type)) return context -> binding(context, id).asyncHandle();
+        return context -> binding(context, id).handle();
+    }
+
+    private static Binding binding(final Context context, final int id) {
+        return ((GeneralContext) context).binding(id);
+    }
+
+    private record Slot(int id) implements Resolver {
+
+        @Override
+        public Object resolve(final Context context) {
+            return binding(context, id).resolve(context);
+        }
+
+        @Override
+        public CompletableFuture<?> resolveAsync(final Context context, final Executor executor) {
+            return binding(context, id).resolveAsync(context, executor);
+        }
+
+    }
+
+}
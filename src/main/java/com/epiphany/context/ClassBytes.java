@@ -0,0 +1,51 @@
+package com.epiphany.context;
+
+import java.io.ByteArrayOutputStream;
+
+final class ClassBytes {
+
+    private final ByteArrayOutputStream impl;
+
+    public ClassBytes() {
+        this.impl = new ByteArrayOutputStream();
+    }
+
+    public ClassBytes u1(final int value) {
+        impl.write(value);
+        return this;
+    }
+
+    public ClassBytes u2(final int value) {
+        return u1(value >>> 8).u1(value);
+    }
+
+    public ClassBytes u4(final int value) {
+        return u2(value >>> 16).u2(value);
+    }
+
+    public ClassBytes utf8(final String value) {
+        ClassBytes encoded = new ClassBytes();
+        value.chars().forEach(encoded::modifiedUtf8);
+        return u2(encoded.length()).bytes(encoded);
+    }
+
+    public ClassBytes bytes(final ClassBytes bytes) {
+        impl.writeBytes(bytes.toByteArray());
+        return this;
+    }
+
+    public int length() {
+        return impl.size();
+    }
+
+    public byte[] toByteArray() {
+        return impl.toByteArray();
+    }
+
+    private void modifiedUtf8(final int c) {
+        if (c >= 0x0001 && c <= 0x007F) u1(c);
+        else if (c <= 0x07FF) u1(0xC0 | c >> 6).u1(0x80 | c & 0x3F);
+        else u1(0xE0 | c >> 12).u1(0x80 | c >> 6 & 0x3F).u1(0x80 | c & 0x3F);
+    }
+
+}
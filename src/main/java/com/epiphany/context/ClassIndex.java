@@ -0,0 +1,45 @@
+package com.epiphany.context;
+
+import java.util.Collection;
+
+final class ClassIndex {
+
+    private final Class<?>[] types;
+    private final Class<?>[] keys;
+    private final int[] ids;
+    private final int mask;
+
+    public ClassIndex(final Collection<Class<?>> types) {
+        this.types = types.toArray(Class<?>[]::new);
+        this.keys = new Class<?>[Integer.highestOneBit(Math.max(1, this.types.length)) << 2];
+        this.ids = new int[keys.length];
+        this.mask = keys.length - 1;
+        for (int id = 0; id < this.types.length; id++) put(this.types[id], id);
+    }
+
+    public int id(final java.lang.reflect.Type type) {
+        for (int slot = slot(type); keys[slot] != null; slot = (slot + 1) & mask) if (keys[slot] == type) return ids[slot];
+        return -1;
+    }
+
+    public Class<?> type(final int id) {
+        return types[id];
+    }
+
+    public int size() {
+        return types.length;
+    }
+
+    private void put(final Class<?> type, final int id) {
+        int slot = slot(type);
+        while (keys[slot] != null) slot = (slot + 1) & mask;
+        keys[slot] = type;
+        ids[slot] = id;
+    }
+
+    private int slot(final java.lang.reflect.Type type) {
+        int hash = type.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.epiphany.context;
+
+import java.time.Duration;
+import java.util.*;
+
+import static java.util.stream.Collectors.joining;
+
+public final class ComponentGraph {
+
+    private final ClassIndex index;
+    private final Provider<?>[] providers;
+    private final Scope[] scopes;
+    private final int[][] edges;
+    private final int[][] deferred;
+    private final BindingMetrics[] metrics;
+    private final int[] next;
+    private final boolean[] critical;
+    private final int[] criticalPath;
+
+    ComponentGraph(final ClassIndex index, final Provider<?>[] providers, final BindingMetrics[] metrics) {
+        this.index = index;
+        this.providers = providers;
+        this.scopes = Arrays.stream(providers).map(Provider::scope).toArray(Scope[]::new);
+        this.edges = Arrays.stream(providers).map(provider -> ids(provider.dependencies())).toArray(int[][]::new);
+        this.deferred = Arrays.stream(providers).map(provider -> ids(provider.deferredDependencies())).toArray(int[][]::new);
+        this.metrics = metrics;
+        this.next = new int[providers.length];
+        this.critical = new boolean[providers.length];
+        this.criticalPath = path();
+    }
+
+    public String fingerprint() {
+        return GraphFingerprint.format(GraphFingerprint.of(index, providers));
+    }
+
+    public List<Class<?>> criticalPath() {
+        return Arrays.stream(criticalPath).<Class<?>>mapToObj(index::type).toList();
+    }
+
+    public String toDot() {
+        StringBuilder dot = new StringBuilder("digraph epiphany {\n");
+        for (int id = 0; id < edges.length; id++) {
+            dot.append("  \"").append(name(id)).append("\" [label=\"").append(index.type(id).getSimpleName()).append("\\n").append(scopes[id]);
+            if (measured()) dot.append("\\n").append(metrics[id].instances()).append(" instances\\n").append(time(id).toNanos()).append(" ns");
+            dot.append("\"").append(critical[id] ? ", color=red" : "").append("];\n");
+        }
+        for (int id = 0; id < edges.length; id++) {
+            for (int dependency : edges[id])
+                dot.append("  \"").append(name(id)).append("\" -> \"").append(name(dependency)).append("\"").append(critical(id, dependency) ? " [color=red, penwidth=2]" : "").append(";\n");
+            for (int dependency : deferred[id])
+                dot.append("  \"").append(name(id)).append("\" -> \"").append(name(dependency)).append("\" [style=dashed];\n");
+        }
+        return dot.append("}\n").toString();
+    }
+
+    public String toJson() {
+        List<String> nodes = new ArrayList<>();
+        List<String> links = new ArrayList<>();
+        for (int id = 0; id < edges.length; id++) {
+            StringBuilder node = new StringBuilder("{\"type\":\"").append(name(id)).append("\",\"scope\":\"").append(scopes[id]).append("\"");
+            if (measured()) {
+                BindingMetrics binding = metrics[id];
+                node.append(",\"instances\":").append(binding.instances())
+                    .append(",\"providerInvocations\":").append(binding.providerInvocations())
+                    .append(",\"constructorNanos\":").append(binding.constructorTime().toNanos())
+                    .append(",\"fieldInjectionNanos\":").append(binding.fieldInjectionTime().toNanos())
+                    .append(",\"methodInjectionNanos\":").append(binding.methodInjectionTime().toNanos());
+            }
+            nodes.add(node.append(",\"critical\":").append(critical[id]).append("}").toString());
+            for (int dependency : edges[id]) links.add(link(id, dependency, false));
+            for (int dependency : deferred[id]) links.add(link(id, dependency, true));
+        }
+        String path = Arrays.stream(criticalPath).mapToObj(id -> "\"" + name(id) + "\"").collect(joining(","));
+        return "{\"nodes\":[" + String.join(",", nodes) + "],\"edges\":[" + String.join(",", links) + "],\"criticalPath\":[" + path + "]}";
+    }
+
+    private String link(final int from, final int to, final boolean deferred) {
+        return "{\"from\":\"" + name(from) + "\",\"to\":\"" + name(to) + "\",\"deferred\":" + deferred + ",\"critical\":" + (!deferred && critical(from, to)) + "}";
+    }
+
+    private int[] path() {
+        long[] costs = new long[edges.length];
+        int[] cursor = new int[edges.length];
+        int[] stack = new int[edges.length];
+        boolean[] done = new boolean[edges.length];
+        Arrays.fill(next, -1);
+        for (int root = 0; root < edges.length; root++) {
+            if (done[root]) continue;
+            int top = 0;
+            stack[top++] = root;
+            while (top > 0) {
+                int node = stack[top - 1];
+                if (cursor[node] < edges[node].length) {
+                    int dependency = edges[node][cursor[node]++];
+                    if (!done[dependency]) stack[top++] = dependency;
+                    continue;
+                }
+                top--;
+                for (int dependency : edges[node]) if (next[node] == -1 || costs[dependency] > costs[next[node]]) next[node] = dependency;
+                costs[node] = cost(node) + (next[node] == -1 ? 0 : costs[next[node]]);
+                done[node] = true;
+            }
+        }
+        int start = -1;
+        for (int id = 0; id < edges.length; id++) if (start == -1 || costs[id] > costs[start]) start = id;
+        List<Integer> path = new ArrayList<>();
+        for (int id = start; id != -1; id = next[id]) {
+            path.add(id);
+            critical[id] = true;
+        }
+        return path.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private long cost(final int id) {
+        if (!measured() || metrics[id].instances() == 0) return 1;
+        return 1 + time(id).toNanos() / metrics[id].instances();
+    }
+
+    private Duration time(final int id) {
+        return metrics[id].constructorTime().plus(metrics[id].fieldInjectionTime()).plus(metrics[id].methodInjectionTime());
+    }
+
+    private boolean measured() {
+        return metrics.length == edges.length;
+    }
+
+    private boolean critical(final int from, final int to) {
+        return critical[from] && next[from] == to;
+    }
+
+    private int[] ids(final List<Class<?>> dependencies) {
+        return dependencies.stream().mapToInt(index::id).distinct().toArray();
+    }
+
+    private String name(final int id) {
+        return index.type(id).getName();
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.epiphany.context;
+
+import java.io.*;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static com.epiphany.general.Exceptions.ignored;
+
+final class ComponentIndex {
+
+    static final String LOCATION = "META-INF/epiphany/";
+
+    private static final ClassValue<Optional<ComponentIndex>> INDEXES = new ClassValue<>() {
+        @Override
+        protected Optional<ComponentIndex> computeValue(final Class<?> type) {
+            return ignored(() -> load(type), Optional.empty());
+        }
+    };
+
+    private final Set<String> entries;
+
+    private ComponentIndex(final Set<String> entries) {
+        this.entries = entries;
+    }
+
+    public static boolean present(final AnnotatedElement element, final Class<? extends Annotation> annotation) {
+        Member member = (Member) element;
+        return INDEXES.get(member.getDeclaringClass()).map(index -> index.entries.contains(entry(annotation, member))).orElseGet(() -> element.isAnnotationPresent(annotation));
+    }
+
+    private static String entry(final Class<? extends Annotation> annotation, final Member member) {
+        return annotation.getSimpleName().toLowerCase(Locale.ROOT) + " " + key(member);
+    }
+
+    private static String key(final Member member) {
+        if (member instanceof Field) return member.getName() + ((Field) member).getType().descriptorString();
+        if (member instanceof Constructor) return "<init>" + MethodType.methodType(void.class, ((Constructor<?>) member).getParameterTypes()).toMethodDescriptorString();
+        Method method = (Method) member;
+        return method.getName() + MethodType.methodType(method.getReturnType(), method.getParameterTypes()).toMethodDescriptorString();
+    }
+
+    private static Optional<ComponentIndex> load(final Class<?> type) throws IOException {
+        InputStream resource = type.getResourceAsStream("/" + LOCATION + type.getName());
+        if (resource == null) return Optional.empty();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource, StandardCharsets.UTF_8))) {
+            return Optional.of(new ComponentIndex(new HashSet<>(reader.lines().toList())));
+        }
+    }
+
+}
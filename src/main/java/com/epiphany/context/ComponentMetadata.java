@@ -0,0 +1,62 @@
+package com.epiphany.context;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class ComponentMetadata<Type> {
+
+    private static final ClassValue<Map<Invocation, ComponentMetadata<?>>> CACHE = new ClassValue<>() {
+        @Override
+        protected Map<Invocation, ComponentMetadata<?>> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final InjectConstructor<Type> constructor;
+    private final InjectFields injectFields;
+    private final InjectMethods injectMethods;
+    private final List<Method> injections;
+
+    private ComponentMetadata(final Class<Type> component, final Invocation invocation) {
+        this(new InjectConstructor<>(component, invocation), new InjectFields(component, invocation), new InjectMethods(component, invocation), injections(component));
+    }
+
+    public ComponentMetadata(final InjectConstructor<Type> constructor, final InjectFields injectFields, final InjectMethods injectMethods, final List<Method> injections) {
+        this.constructor = constructor;
+        this.injectFields = injectFields;
+        this.injectMethods = injectMethods;
+        this.injections = injections;
+    }
+
+    public InjectConstructor<Type> constructor() {
+        return constructor;
+    }
+
+    public InjectFields injectFields() {
+        return injectFields;
+    }
+
+    public InjectMethods injectMethods() {
+        return injectMethods;
+    }
+
+    public List<Method> injections() {
+        return injections;
+    }
+
+    public static <Type> ComponentMetadata<Type> of(final Class<Type> component, final Invocation invocation) {
+        return of(component, invocation, PlanCache.NONE);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <Type> ComponentMetadata<Type> of(final Class<Type> component, final Invocation invocation, final PlanCache plans) {
+        return (ComponentMetadata<Type>) CACHE.get(component).computeIfAbsent(invocation, o -> plans.restore(component, o).orElseGet(() -> new ComponentMetadata<>(component, o)));
+    }
+
+    private static List<Method> injections(final Class<?> component) {
+        if (!component.isAnnotationPresent(Injections.class)) return List.of();
+        return InjectStream.of(component.getDeclaredMethods()).injectionPart().toList();
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.epiphany.context;
+
+import java.util.*;
+
+final class ConstantPool {
+
+    private static final int UTF8 = 1;
+    private static final int CLASS = 7;
+    private static final int STRING = 8;
+    private static final int FIELD = 9;
+    private static final int METHOD = 10;
+    private static final int INTERFACE_METHOD = 11;
+    private static final int NAME_AND_TYPE = 12;
+
+    private final ClassBytes entries;
+    private final Map<String, Integer> indexes;
+
+    public ConstantPool() {
+        this.entries = new ClassBytes();
+        this.indexes = new HashMap<>();
+    }
+
+    public int utf8(final String value) {
+        return indexes.computeIfAbsent(UTF8 + "#" + value, key -> add(new ClassBytes().u1(UTF8).utf8(value)));
+    }
+
+    public int type(final String internalName) {
+        int name = utf8(internalName);
+        return indexes.computeIfAbsent(CLASS + "#" + internalName, key -> add(new ClassBytes().u1(CLASS).u2(name)));
+    }
+
+    public int string(final String value) {
+        int utf8 = utf8(value);
+        return indexes.computeIfAbsent(STRING + "#" + value, key -> add(new ClassBytes().u1(STRING).u2(utf8)));
+    }
+
+    public int field(final String owner, final String name, final String descriptor) {
+        return member(FIELD, owner, name, descriptor);
+    }
+
+    public int method(final String owner, final String name, final String descriptor) {
+        return member(METHOD, owner, name, descriptor);
+    }
+
+    public int interfaceMethod(final String owner, final String name, final String descriptor) {
+        return member(INTERFACE_METHOD, owner, name, descriptor);
+    }
+
+    public ClassBytes writeTo(final ClassBytes bytes) {
+        return bytes.u2(indexes.size() + 1).bytes(entries);
+    }
+
+    private int member(final int tag, final String owner, final String name, final String descriptor) {
+        int type = type(owner);
+        int nameAndType = nameAndType(name, descriptor);
+        return indexes.computeIfAbsent(tag + "#" + owner + '.' + name + descriptor, key -> add(new ClassBytes().u1(tag).u2(type).u2(nameAndType)));
+    }
+
+    private int nameAndType(final String name, final String descriptor) {
+        int nameIndex = utf8(name);
+        int descriptorIndex = utf8(descriptor);
+        return indexes.computeIfAbsent(NAME_AND_TYPE + "#" + name + ':' + descriptor, key -> add(new ClassBytes().u1(NAME_AND_TYPE).u2(nameIndex).u2(descriptorIndex)));
+    }
+
+    private int add(final ClassBytes entry) {
+        entries.bytes(entry);
+        return indexes.size() + 1;
+    }
+
+}
@@ -1,9 +1,11 @@
 package com.epiphany.context;
 
+import com.epiphany.AsyncInjectionProvider;
 import com.epiphany.InjectionProvider;
 
 import java.lang.reflect.ParameterizedType;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.*;
 
 public interface Context {
 
@@ -11,4 +13,18 @@ public interface Context {
 
     Optional<InjectionProvider> get(ParameterizedType type);
 
+    <Type> Type require(final Class<Type> type);
+
+    <Type> InjectionProvider<Type> handle(final Class<Type> type);
+
+    <Type> CompletableFuture<Type> getAsync(final Class<Type> type);
+
+    <Type> CompletableFuture<Type> getAsync(final Class<Type> type, final Executor executor);
+
+    <Type> AsyncInjectionProvider<Type> handleAsync(final Class<Type> type);
+
+    Map<Class<?>, BindingMetrics> metrics();
+
+    ComponentGraph graph();
+
 }
@@ -0,0 +1,26 @@
+package com.epiphany.context;
+
+import jdk.jfr.*;
+
+@Name("com.epiphany.ContextBuild")
+@Label("Context Build")
+@Category("Epiphany")
+@Description("Validation and compilation of bindings into a context")
+@StackTrace(false)
+final class ContextBuildEvent extends Event {
+
+    @Label("Bindings")
+    int bindings;
+
+    @Label("Validation")
+    @Timespan(Timespan.NANOSECONDS)
+    long validation;
+
+    @Label("Trusted Fingerprint")
+    boolean trusted;
+
+    @Label("Compilation")
+    @Timespan(Timespan.NANOSECONDS)
+    long compilation;
+
+}
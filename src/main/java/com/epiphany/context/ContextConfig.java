@@ -1,27 +1,99 @@
 package com.epiphany.context;
 
+import java.nio.file.Path;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
 public final class ContextConfig {
 
     private final InjectionProviders injectionProviders;
+    private final AtomicLong version;
+    private Snapshot snapshot;
+    private volatile boolean measured;
+    private volatile Consumer<GeneralContext> initialization;
+    private volatile Executor executor;
 
     public ContextConfig() {
-        this.injectionProviders = new InjectionProviders();
+        this(Invocation.REFLECTION);
+    }
+
+    public ContextConfig(final Path plans) {
+        this(Invocation.REFLECTION, plans);
+    }
+
+    public ContextConfig(final Invocation invocation) {
+        this(invocation, PlanCache.NONE);
+    }
+
+    public ContextConfig(final Invocation invocation, final Path plans) {
+        this(invocation, PlanCache.load(plans));
+    }
+
+    private ContextConfig(final Invocation invocation, final PlanCache plans) {
+        this.injectionProviders = new InjectionProviders(invocation, plans);
+        this.version = new AtomicLong();
+        this.initialization = context -> {};
+        this.executor = ForkJoinPool.commonPool();
     }
 
     public <Type> void bind(final Class<Type> type, final Type instance) {
         injectionProviders.register(type, instance);
+        invalidate();
     }
 
     public <Type, Implementation extends Type> void bind(final Class<Type> type, final Class<Implementation> implementation) {
         injectionProviders.register(type, implementation);
+        invalidate();
+    }
+
+    public <Type, Implementation extends Type> void bind(final Class<Type> type, final Class<Implementation> implementation, final Scope scope) {
+        injectionProviders.register(type, implementation, scope);
+        invalidate();
     }
 
     public <Type, Implementation extends Type> void bind(final InjectClasses<Type, Implementation> injectClasses) {
         injectionProviders.register(injectClasses);
+        invalidate();
+    }
+
+    public void enableMetrics() {
+        measured = true;
+    }
+
+    public void eager() {
+        initialization = GeneralContext::initialize;
+    }
+
+    public void eager(final Executor executor) {
+        initialization = context -> context.initialize(executor);
+    }
+
+    public void executor(final Executor executor) {
+        this.executor = executor;
     }
 
     public Context context() {
-        return new GeneralContext(injectionProviders);
+        GeneralContext context = new GeneralContext(plan(), measured, executor);
+        initialization.accept(context);
+        return context;
+    }
+
+    String validate() {
+        return injectionProviders.validate();
+    }
+
+    private synchronized Bindings plan() {
+        long expected = version.get();
+        if (snapshot == null || snapshot.version() != expected) snapshot = new Snapshot(expected, injectionProviders.compile());
+        return snapshot.plan();
+    }
+
+    private void invalidate() {
+        version.incrementAndGet();
+    }
+
+    private record Snapshot(long version, Bindings plan) {
     }
 
 }
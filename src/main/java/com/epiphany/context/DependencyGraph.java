@@ -0,0 +1,98 @@
+package com.epiphany.context;
+
+import com.epiphany.context.exception.*;
+
+import java.util.*;
+
+final class DependencyGraph {
+
+    private final ClassIndex index;
+    private final int[][] edges;
+    private final Map<Class<?>, Set<Class<?>>> missing;
+
+    public DependencyGraph(final ClassIndex index, final Provider<?>[] providers) {
+        this.index = index;
+        this.edges = new int[providers.length][];
+        this.missing = new LinkedHashMap<>();
+        for (int id = 0; id < providers.length; id++) {
+            edges[id] = edges(index.type(id), providers[id].dependencies());
+            missing(index.type(id), providers[id].deferredDependencies());
+        }
+    }
+
+    public void check() {
+        List<Set<Class<?>>> cycles = cycles();
+        if (missing.isEmpty() && cycles.isEmpty()) return;
+        if (missing.isEmpty()) throw new CyclicDependenciesFoundException(cycles);
+        DependencyNotFoundException exception = new DependencyNotFoundException(missing);
+        if (!cycles.isEmpty()) exception.addSuppressed(new CyclicDependenciesFoundException(cycles));
+        throw exception;
+    }
+
+    private int[] edges(final Class<?> component, final List<Class<?>> dependencies) {
+        int[] edges = new int[dependencies.size()];
+        int size = 0;
+        for (Class<?> dependency : dependencies) {
+            int id = index.id(dependency);
+            if (id < 0) missing.computeIfAbsent(component, o -> new LinkedHashSet<>()).add(dependency);
+            else edges[size++] = id;
+        }
+        return Arrays.copyOf(edges, size);
+    }
+
+    private void missing(final Class<?> component, final List<Class<?>> dependencies) {
+        for (Class<?> dependency : dependencies)
+            if (index.id(dependency) < 0) missing.computeIfAbsent(component, o -> new LinkedHashSet<>()).add(dependency);
+    }
+
+    private List<Set<Class<?>>> cycles() {
+        List<Set<Class<?>>> cycles = new ArrayList<>();
+        int[] order = new int[edges.length];
+        int[] low = new int[edges.length];
+        int[] cursor = new int[edges.length];
+        boolean[] onStack = new boolean[edges.length];
+        int[] stack = new int[edges.length];
+        int[] calls = new int[edges.length];
+        Arrays.fill(order, -1);
+        int counter = 0;
+        int top = 0;
+        for (int root = 0; root < edges.length; root++) {
+            if (order[root] != -1) continue;
+            int depth = 0;
+            calls[depth++] = root;
+            order[root] = low[root] = counter++;
+            stack[top++] = root;
+            onStack[root] = true;
+            while (depth > 0) {
+                int node = calls[depth - 1];
+                if (cursor[node] < edges[node].length) {
+                    int next = edges[node][cursor[node]++];
+                    if (order[next] == -1) {
+                        calls[depth++] = next;
+                        order[next] = low[next] = counter++;
+                        stack[top++] = next;
+                        onStack[next] = true;
+                    } else if (onStack[next]) low[node] = Math.min(low[node], order[next]);
+                    continue;
+                }
+                depth--;
+                if (depth > 0) low[calls[depth - 1]] = Math.min(low[calls[depth - 1]], low[node]);
+                if (low[node] != order[node]) continue;
+                Set<Class<?>> component = new LinkedHashSet<>();
+                int member;
+                do {
+                    member = stack[--top];
+                    onStack[member] = false;
+                    component.add(index.type(member));
+                } while (member != node);
+                if (component.size() > 1 || selfDependent(node)) cycles.add(component);
+            }
+        }
+        return cycles;
+    }
+
+    private boolean selfDependent(final int node) {
+        return Arrays.stream(edges[node]).anyMatch(o -> o == node);
+    }
+
+}
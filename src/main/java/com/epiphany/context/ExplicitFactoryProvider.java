@@ -0,0 +1,53 @@
+package com.epiphany.context;
+
+import java.util.List;
+
+import static com.epiphany.general.Exceptions.evaluate;
+
+final class ExplicitFactoryProvider<InjectionsType, Type> implements Provider<Type> {
+
+    private final Class<InjectionsType> injectionsType;
+    private final InjectionMethod<Type> method;
+    private final Resolver injections;
+    private final Resolver[] arguments;
+
+    public ExplicitFactoryProvider(final Class<InjectionsType> injectionsType, final InjectionMethod<Type> method) {
+        this(injectionsType, method, Resolvers.LOOKUP);
+    }
+
+    private ExplicitFactoryProvider(final Class<InjectionsType> injectionsType, final InjectionMethod<Type> method, final Resolvers resolvers) {
+        this.injectionsType = injectionsType;
+        this.method = method;
+        this.injections = resolvers.of(injectionsType);
+        this.arguments = method.dependencies().stream().map(resolvers::of).toArray(Resolver[]::new);
+    }
+
+    @Override
+    public Type get(final Context context) {
+        return invoke(injections.resolve(context), Resolver.resolve(context, arguments));
+    }
+
+    @Override
+    public List<Class<?>> dependencies() {
+        return method.dependencies();
+    }
+
+    @Override
+    public Provider<Type> compile(final Resolvers resolvers) {
+        return new ExplicitFactoryProvider<>(injectionsType, method, resolvers);
+    }
+
+    @Override
+    public Provider<Type> measure(final BindingMetrics metrics) {
+        return new MeasuredProvider<>(this, context -> {
+            Object target = injections.resolve(context);
+            Object[] values = Resolver.resolve(context, arguments);
+            return metrics.construct(() -> invoke(target, values));
+        });
+    }
+
+    private Type invoke(final Object target, final Object[] values) {
+        return evaluate(() -> method.invoke(target, values)).evaluate();
+    }
+
+}
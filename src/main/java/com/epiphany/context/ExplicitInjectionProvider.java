@@ -1,35 +1,69 @@
 package com.epiphany.context;
 
-import java.lang.reflect.*;
+import java.lang.reflect.Method;
 import java.util.*;
 
-import static com.epiphany.general.Exceptions.evaluate;
-import static java.util.Arrays.stream;
-
 class ExplicitInjectionProvider<InjectionsType, Type> implements Provider<Type> {
 
     private final Class<InjectionsType> injectionsType;
     private final Method method;
+    private final Invoker invoker;
+    private final Resolver injections;
+    private final Resolver[] arguments;
 
     public ExplicitInjectionProvider(final Class<InjectionsType> injectionsType, final Method method) {
+        this(injectionsType, method, Invocation.REFLECTION);
+    }
+
+    public ExplicitInjectionProvider(final Class<InjectionsType> injectionsType, final Method method, final Invocation invocation) {
+        this(injectionsType, method, accessible(method, invocation), Resolvers.LOOKUP);
+    }
+
+    private ExplicitInjectionProvider(final Class<InjectionsType> injectionsType, final Method method, final Invoker invoker, final Resolvers resolvers) {
         this.injectionsType = injectionsType;
         this.method = method;
+        this.invoker = invoker;
+        this.injections = resolvers.of(injectionsType);
+        this.arguments = resolvers.of(method.getParameters());
     }
 
     @Override
-    @SuppressWarnings("all")
     public Type get(final Context context) {
-        InjectionsType injections = context.get(injectionsType).get();
-        Object[] dependencies = stream(method.getParameters()).map(Parameter::getType).map(context::get).map(Optional::get).toArray(Object[]::new);
-        return (Type) evaluate(() -> {
-            method.setAccessible(true);
-            return method.invoke(injections, dependencies);
-        }).evaluate();
+        return invoke(injections.resolve(context), Resolver.resolve(context, arguments));
     }
 
     @Override
     public List<Class<?>> dependencies() {
-        return Arrays.stream(method.getParameterTypes()).toList();
+        return ProviderTypes.dependencies(ProviderTypes.points(method.getParameters()));
+    }
+
+    @Override
+    public List<Class<?>> deferredDependencies() {
+        return ProviderTypes.deferred(ProviderTypes.points(method.getParameters()));
+    }
+
+    @Override
+    public Provider<Type> compile(final Resolvers resolvers) {
+        return new ExplicitInjectionProvider<>(injectionsType, method, invoker, resolvers);
+    }
+
+    @Override
+    public Provider<Type> measure(final BindingMetrics metrics) {
+        return new MeasuredProvider<>(this, context -> {
+            Object target = injections.resolve(context);
+            Object[] values = Resolver.resolve(context, arguments);
+            return metrics.construct(() -> invoke(target, values));
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Type invoke(final Object target, final Object[] values) {
+        return (Type) invoker.invoke(target, values);
+    }
+
+    private static Invoker accessible(final Method method, final Invocation invocation) {
+        method.setAccessible(true);
+        return invocation.invoker(method);
     }
 
 }
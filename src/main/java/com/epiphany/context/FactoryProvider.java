@@ -0,0 +1,67 @@
+package com.epiphany.context;
+
+import java.util.*;
+
+import static com.epiphany.general.Exceptions.*;
+
+final class FactoryProvider<Type> implements Provider<Type> {
+
+    private static final ClassValue<Optional<InjectionFactory<?>>> FACTORIES = new ClassValue<>() {
+        @Override
+        protected Optional<InjectionFactory<?>> computeValue(final Class<?> component) {
+            return ignored(() -> Optional.of((InjectionFactory<?>) Class.forName(component.getName() + InjectionFactory.SUFFIX, true, component.getClassLoader()).getConstructor().newInstance()), Optional.empty());
+        }
+    };
+
+    private final InjectionFactory<Type> factory;
+    private final Resolver[] arguments;
+
+    public FactoryProvider(final InjectionFactory<Type> factory) {
+        this(factory, Resolvers.LOOKUP);
+    }
+
+    private FactoryProvider(final InjectionFactory<Type> factory, final Resolvers resolvers) {
+        this.factory = factory;
+        this.arguments = factory.dependencies().stream().map(resolvers::of).toArray(Resolver[]::new);
+    }
+
+    @Override
+    public Type get(final Context context) {
+        return create(Resolver.resolve(context, arguments));
+    }
+
+    @Override
+    public List<Class<?>> dependencies() {
+        return factory.dependencies();
+    }
+
+    @Override
+    public Provider<Type> compile(final Resolvers resolvers) {
+        return new FactoryProvider<>(factory, resolvers);
+    }
+
+    @Override
+    public Provider<Type> measure(final BindingMetrics metrics) {
+        return new MeasuredProvider<>(this, context -> {
+            Object[] values = Resolver.resolve(context, arguments);
+            long constructing = System.nanoTime();
+            Type instance = evaluate(() -> factory.construct(values)).evaluate();
+            long constructed = System.nanoTime();
+            execute(() -> factory.injectFields(instance, values)).run();
+            long fieldsInjected = System.nanoTime();
+            execute(() -> factory.injectMethods(instance, values)).run();
+            metrics.created(constructed - constructing, fieldsInjected - constructed, System.nanoTime() - fieldsInjected);
+            return instance;
+        });
+    }
+
+    private Type create(final Object[] values) {
+        return evaluate(() -> factory.create(values)).evaluate();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <Type> Optional<InjectionFactory<Type>> of(final Class<Type> component) {
+        return FACTORIES.get(component).map(factory -> (InjectionFactory<Type>) factory);
+    }
+
+}
@@ -1,30 +1,111 @@
 package com.epiphany.context;
 
+import com.epiphany.AsyncInjectionProvider;
 import com.epiphany.InjectionProvider;
+import com.epiphany.context.exception.ComponentNotFoundException;
 
 import java.lang.reflect.ParameterizedType;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.*;
 
 class GeneralContext implements Context {
 
-    private final InjectionProviders injectionProviders;
+    private final Bindings plan;
+    private final BindingMetrics[] metrics;
+    private final Binding[] bindings;
+    private final Executor executor;
 
-    public GeneralContext(final InjectionProviders injectionProviders) {
-        injectionProviders.checkDependencies();
-        this.injectionProviders = injectionProviders;
+    public GeneralContext(final Bindings plan, final boolean measured, final Executor executor) {
+        this.plan = plan;
+        this.metrics = new BindingMetrics[measured ? plan.size() : 0];
+        Arrays.setAll(metrics, id -> new BindingMetrics());
+        this.bindings = plan.bind(this, metrics, executor);
+        this.executor = executor;
+    }
+
+    public void initialize() {
+        ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "epiphany-initialization");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            initialize(executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public void initialize(final Executor executor) {
+        plan.initialize(this, bindings, executor);
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <Type> Optional<Type> get(final Class<Type> type) {
-        return Optional.ofNullable(injectionProviders.get(type)).map(provider -> provider.get(this)).map(o -> (Type) o);
+        return Optional.ofNullable(lookup(type)).map(binding -> (Type) binding.resolve(this));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <Type> Type require(final Class<Type> type) {
+        return (Type) binding(type).resolve(this);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <Type> InjectionProvider<Type> handle(final Class<Type> type) {
+        return (InjectionProvider<Type>) binding(type).handle();
     }
 
     @Override
     public Optional<InjectionProvider> get(ParameterizedType type) {
-        if (type.getRawType() != Provider.class) return Optional.empty();
-        Class<?> componentType = (Class<?>) type.getActualTypeArguments()[0];
-        return Optional.ofNullable(injectionProviders.get(componentType)).map(o -> () -> o.get(this));
+        if (!ProviderTypes.provider(type)) return Optional.empty();
+        return Optional.ofNullable(lookup(ProviderTypes.component(type))).map(ProviderTypes.async(type) ? Binding::asyncHandle : Binding::handle);
+    }
+
+    @Override
+    public <Type> CompletableFuture<Type> getAsync(final Class<Type> type) {
+        return getAsync(type, executor);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <Type> CompletableFuture<Type> getAsync(final Class<Type> type, final Executor executor) {
+        Binding binding = lookup(type);
+        if (binding == null) return CompletableFuture.failedFuture(new ComponentNotFoundException(type));
+        return (CompletableFuture<Type>) binding.resolveAsync(this, executor);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <Type> AsyncInjectionProvider<Type> handleAsync(final Class<Type> type) {
+        return (AsyncInjectionProvider<Type>) binding(type).asyncHandle();
+    }
+
+    @Override
+    public Map<Class<?>, BindingMetrics> metrics() {
+        return plan.metrics(metrics);
+    }
+
+    @Override
+    public ComponentGraph graph() {
+        return plan.graph(metrics);
+    }
+
+    Binding binding(final int id) {
+        return bindings[id];
+    }
+
+    private Binding lookup(final Class<?> type) {
+        int id = plan.id(type);
+        return id < 0 ? null : bindings[id];
+    }
+
+    private Binding binding(final Class<?> type) {
+        Binding binding = lookup(type);
+        if (binding == null) throw new ComponentNotFoundException(type);
+        return binding;
     }
 
 }
@@ -1,31 +1,77 @@
 package com.epiphany.context;
 
 import java.util.List;
+import java.util.concurrent.*;
 import java.util.stream.*;
 
-import static com.epiphany.general.Exceptions.evaluate;
-
 final class GeneralInjectionProvider<Type> implements Provider<Type> {
 
     private final InjectConstructor<Type> constructor;
     private final InjectFields injectFields;
     private final InjectMethods injectMethods;
+    private final Invocation invocation;
+    private final ResolutionPlan<Type> plan;
 
     public GeneralInjectionProvider(final Class<Type> component) {
-        this.constructor = new InjectConstructor<>(component);
-        this.injectFields = new InjectFields(component);
-        this.injectMethods = new InjectMethods(component);
+        this(component, Invocation.REFLECTION);
+    }
+
+    public GeneralInjectionProvider(final Class<Type> component, final Invocation invocation) {
+        this(ComponentMetadata.of(component, invocation), invocation);
+    }
+
+    public GeneralInjectionProvider(final ComponentMetadata<Type> metadata, final Invocation invocation) {
+        this.constructor = metadata.constructor();
+        this.injectFields = metadata.injectFields();
+        this.injectMethods = metadata.injectMethods();
+        this.invocation = invocation;
+        this.plan = new ResolutionPlan<>(constructor, injectFields, injectMethods, Resolvers.LOOKUP);
+    }
+
+    private GeneralInjectionProvider(final GeneralInjectionProvider<Type> provider, final Resolvers resolvers) {
+        this.constructor = provider.constructor;
+        this.injectFields = provider.injectFields;
+        this.injectMethods = provider.injectMethods;
+        this.invocation = provider.invocation;
+        this.plan = new ResolutionPlan<>(constructor, injectFields, injectMethods, resolvers);
     }
 
     @Override
-    @SuppressWarnings("all")
     public Type get(final Context context) {
-        return evaluate(() -> constructor.newInstance(context, injectFields, injectMethods)).evaluate();
+        return plan.newInstance(context);
+    }
+
+    @Override
+    public CompletableFuture<Type> getAsync(final Context context, final Executor executor) {
+        return plan.newInstanceAsync(context, executor);
     }
 
     @Override
     public List<Class<?>> dependencies() {
-        return Stream.of(injectFields.dependencies(), injectMethods.dependencies(), constructor.dependencies()).flatMap(o -> o).collect(Collectors.toList());
+        return ProviderTypes.dependencies(injectionPoints());
+    }
+
+    @Override
+    public List<Class<?>> deferredDependencies() {
+        return ProviderTypes.deferred(injectionPoints());
+    }
+
+    @Override
+    public Provider<Type> compile(final Resolvers resolvers) {
+        return invocation.compile(new GeneralInjectionProvider<>(this, resolvers));
+    }
+
+    @Override
+    public Provider<Type> measure(final BindingMetrics metrics) {
+        return new MeasuredProvider<>(this, context -> plan.newInstance(context, metrics));
+    }
+
+    private Stream<java.lang.reflect.Type> injectionPoints() {
+        return Stream.of(injectFields.dependencies(), injectMethods.dependencies(), constructor.dependencies()).flatMap(o -> o);
+    }
+
+    public Provider<Type> generate() {
+        return plan.define(this).orElse(this);
     }
 
 }
@@ -0,0 +1,34 @@
+package com.epiphany.context;
+
+import java.util.List;
+import java.util.concurrent.*;
+
+public abstract class GeneratedProvider<Type> implements Provider<Type> {
+
+    private final Provider<Type> provider;
+
+    protected GeneratedProvider(final Provider<Type> provider) {
+        this.provider = provider;
+    }
+
+    @Override
+    public CompletableFuture<Type> getAsync(final Context context, final Executor executor) {
+        return provider.getAsync(context, executor);
+    }
+
+    @Override
+    public List<Class<?>> dependencies() {
+        return provider.dependencies();
+    }
+
+    @Override
+    public List<Class<?>> deferredDependencies() {
+        return provider.deferredDependencies();
+    }
+
+    @Override
+    public Provider<Type> measure(final BindingMetrics metrics) {
+        return provider.measure(metrics);
+    }
+
+}
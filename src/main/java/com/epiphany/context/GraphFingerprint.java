@@ -0,0 +1,66 @@
+package com.epiphany.context;
+
+import java.io.*;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static com.epiphany.general.Exceptions.ignored;
+
+final class GraphFingerprint {
+
+    static final String MANIFEST = "META-INF/epiphany/validated-graphs";
+    static final GraphFingerprint TRUSTED = load(GraphFingerprint.class.getClassLoader());
+
+    private final Set<Long> fingerprints;
+
+    GraphFingerprint(final Set<Long> fingerprints) {
+        this.fingerprints = fingerprints;
+    }
+
+    public static GraphFingerprint load(final ClassLoader loader) {
+        Set<Long> fingerprints = new HashSet<>();
+        ignored(() -> Collections.list(loader.getResources(MANIFEST)).forEach(manifest -> read(manifest).forEach(line -> fingerprints.add(HexFormat.fromHexDigitsToLong(line)))));
+        return new GraphFingerprint(Set.copyOf(fingerprints));
+    }
+
+    public boolean trusts(final long fingerprint) {
+        return fingerprints.contains(fingerprint);
+    }
+
+    public static long of(final ClassIndex index, final Provider<?>[] providers) {
+        long fingerprint = 0;
+        for (int id = 0; id < providers.length; id++) fingerprint += of(index.type(id), providers[id]);
+        return fingerprint;
+    }
+
+    public static long of(final Class<?> type, final Provider<?> provider) {
+        long binding = mix(type.getName().hashCode() + sum(provider.dependencies()));
+        return mix(binding + 31 * sum(provider.deferredDependencies()));
+    }
+
+    public static String format(final long fingerprint) {
+        return HexFormat.of().toHexDigits(fingerprint);
+    }
+
+    private static List<String> read(final URL manifest) {
+        return ignored(() -> {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(manifest.openStream(), StandardCharsets.UTF_8))) {
+                return reader.lines().toList();
+            }
+        }, List.of());
+    }
+
+    private static long sum(final List<Class<?>> types) {
+        long sum = 0;
+        for (Class<?> type : types) sum += mix(type.getName().hashCode());
+        return sum;
+    }
+
+    private static long mix(final long value) {
+        long mixed = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        mixed = (mixed ^ (mixed >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return mixed ^ (mixed >>> 33);
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.epiphany.context;
+
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.Supplier;
+
+public interface GraphManifest {
+
+    static void main(final String[] args) throws Exception {
+        Path manifest = Path.of(args[0]).resolve(GraphFingerprint.MANIFEST);
+        Set<String> fingerprints = new TreeSet<>();
+        for (String wiring : Arrays.copyOfRange(args, 1, args.length)) fingerprints.add(validate(wiring));
+        Files.createDirectories(manifest.getParent());
+        Files.write(manifest, fingerprints);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String validate(final String wiring) throws ReflectiveOperationException {
+        Supplier<ContextConfig> supplier = (Supplier<ContextConfig>) Class.forName(wiring).getDeclaredConstructor().newInstance();
+        return supplier.get().validate();
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.epiphany.context;
+
+import com.epiphany.general.Exceptions;
+
+import java.lang.invoke.MethodHandle;
+
+final class HandleInvoker implements Invoker {
+
+    private final MethodHandle handle;
+
+    public HandleInvoker(final MethodHandle handle) {
+        this.handle = handle;
+    }
+
+    @Override
+    public Object invoke(final Object target, final Object[] arguments) {
+        try {
+            return (Object) handle.invokeExact(target, arguments);
+        } catch (Throwable e) {
+            throw Exceptions.wrap(e);
+        }
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.epiphany.context;
+
+import com.epiphany.general.Exceptions;
+
+import java.lang.invoke.MethodHandle;
+
+final class HandleSetter implements Setter {
+
+    private final MethodHandle handle;
+
+    public HandleSetter(final MethodHandle handle) {
+        this.handle = handle;
+    }
+
+    @Override
+    public void set(final Object target, final Object value) {
+        try {
+            handle.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw Exceptions.wrap(e);
+        }
+    }
+
+}
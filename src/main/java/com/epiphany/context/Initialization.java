@@ -0,0 +1,70 @@
+package com.epiphany.context;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static com.epiphany.general.Exceptions.wrap;
+
+final class Initialization {
+
+    private final Binding[] bindings;
+    private final boolean[] singletons;
+    private final int[][] dependents;
+    private final AtomicIntegerArray remaining;
+    private final AtomicInteger pending;
+    private final CompletableFuture<Void> done;
+    private final Queue<Future<?>> tasks;
+
+    public Initialization(final ClassIndex index, final Provider<?>[] providers, final Binding[] bindings) {
+        this.bindings = bindings;
+        this.singletons = new boolean[providers.length];
+        this.remaining = new AtomicIntegerArray(providers.length);
+        this.pending = new AtomicInteger(providers.length);
+        this.done = new CompletableFuture<>();
+        this.tasks = new ConcurrentLinkedQueue<>();
+        List<List<Integer>> dependents = new ArrayList<>();
+        for (int id = 0; id < providers.length; id++) dependents.add(new ArrayList<>());
+        for (int id = 0; id < providers.length; id++) {
+            singletons[id] = providers[id].scope() == Scope.SINGLETON;
+            int[] dependencies = providers[id].dependencies().stream().mapToInt(index::id).distinct().toArray();
+            remaining.set(id, dependencies.length);
+            for (int dependency : dependencies) dependents.get(dependency).add(id);
+        }
+        this.dependents = dependents.stream().map(o -> o.stream().mapToInt(Integer::intValue).toArray()).toArray(int[][]::new);
+    }
+
+    public void run(final Context context, final Executor executor) {
+        if (bindings.length == 0) return;
+        for (int id = 0; id < bindings.length; id++) if (remaining.get(id) == 0) submit(id, context, executor);
+        try {
+            done.join();
+        } catch (CompletionException e) {
+            tasks.forEach(task -> task.cancel(false));
+            throw wrap(e.getCause());
+        }
+    }
+
+    private void submit(final int id, final Context context, final Executor executor) {
+        if (done.isDone()) return;
+        FutureTask<Void> task = new FutureTask<>(() -> initialize(id, context, executor), null);
+        tasks.add(task);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            done.completeExceptionally(e);
+        }
+    }
+
+    private void initialize(final int id, final Context context, final Executor executor) {
+        try {
+            if (singletons[id]) bindings[id].resolve(context);
+        } catch (Throwable e) {
+            done.completeExceptionally(e);
+            return;
+        }
+        for (int dependent : dependents[id]) if (remaining.decrementAndGet(dependent) == 0) submit(dependent, context, executor);
+        if (pending.decrementAndGet() == 0) done.complete(null);
+    }
+
+}
@@ -1,37 +1,53 @@
 package com.epiphany.context;
 
-import java.lang.reflect.*;
-import java.util.Optional;
+import java.lang.reflect.Constructor;
 import java.util.stream.Stream;
 
 import static com.epiphany.general.Exceptions.evaluate;
-import static java.util.Arrays.stream;
 
 class InjectConstructor<Type> {
 
     private final Constructor<Type> impl;
+    private final Invoker invoker;
 
-    @SuppressWarnings("unchecked")
-    public InjectConstructor(final Class<Type> component) {
-        new InjectComponent<>(component).check();
-        this.impl = (Constructor<Type>) InjectStream.of(component.getConstructors()).injectablePart().findFirst().orElseGet(() -> evaluate(component::getDeclaredConstructor).evaluate());
+    public InjectConstructor(final Class<Type> component, final Invocation invocation) {
+        this(constructor(component), invocation);
     }
 
-    public Stream<Class<?>> dependencies() {
-        return stream(impl.getParameterTypes());
+    public InjectConstructor(final Constructor<Type> impl, final Invocation invocation) {
+        this.impl = impl;
+        this.invoker = invocation.invoker(impl);
     }
 
-    @SuppressWarnings("all")
-    public Type newInstance(final Context context, final InjectFields injectFields, final InjectMethods injectMethods) {
-        Object[] dependencies = stream(impl.getParameters()).map(p -> {
-            java.lang.reflect.Type type = p.getParameterizedType();
-            if (type instanceof ParameterizedType) return context.get((ParameterizedType) type);
-            return context.get((Class<?>) type);
-        }).map(Optional::get).toArray(Object[]::new);
-        Type instance = evaluate(() -> impl.newInstance(dependencies)).evaluate();
-        injectFields.injectInto(context, instance);
-        injectMethods.injectInto(context, instance);
-        return instance;
+    public Constructor<Type> member() {
+        return impl;
+    }
+
+    public Stream<java.lang.reflect.Type> dependencies() {
+        return ProviderTypes.points(impl.getParameters());
+    }
+
+    public Resolver[] resolvers(final Resolvers resolvers) {
+        return resolvers.of(impl.getParameters());
+    }
+
+    public ProviderClass define(final Resolver[] resolvers) {
+        return new ProviderClass(impl, resolvers);
+    }
+
+    public Type newInstance(final Context context, final Resolver[] resolvers) {
+        return newInstance(Resolver.resolve(context, resolvers));
+    }
+
+    @SuppressWarnings("unchecked")
+    public Type newInstance(final Object[] arguments) {
+        return (Type) invoker.invoke(null, arguments);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <Type> Constructor<Type> constructor(final Class<Type> component) {
+        new InjectComponent<>(component).check();
+        return (Constructor<Type>) InjectStream.of(component.getConstructors()).injectablePart().findFirst().orElseGet(() -> evaluate(component::getDeclaredConstructor).evaluate());
     }
 
 }
@@ -3,37 +3,47 @@ package com.epiphany.context;
 import com.epiphany.context.exception.IllegalComponentException;
 
 import java.lang.reflect.*;
-import java.util.*;
+import java.util.List;
 import java.util.stream.Stream;
 
-import static com.epiphany.general.Exceptions.execute;
-
 class InjectFields {
 
     private final List<Field> impl;
+    private final List<Setter> setters;
+
+    public <Type> InjectFields(final Class<Type> component, final Invocation invocation) {
+        this(new Traverser<Field>().traverse(component, (methods, current) -> InjectStream.of(current.getDeclaredFields()).injectablePart().toList()), invocation);
+    }
 
-    public <Type> InjectFields(final Class<Type> component) {
-        this.impl = new Traverser<Field>().traverse(component, (methods, current) -> InjectStream.of(current.getDeclaredFields()).injectablePart().toList());
+    public InjectFields(final List<Field> impl, final Invocation invocation) {
         if (impl.stream().anyMatch(o -> Modifier.isFinal(o.getModifiers()))) throw new IllegalComponentException();
+        this.impl = impl;
+        impl.forEach(field -> field.setAccessible(true));
+        this.setters = impl.stream().map(invocation::setter).toList();
+    }
+
+    public List<Field> members() {
+        return impl;
+    }
+
+    public Resolver[] resolvers(final Resolvers resolvers) {
+        return dependencies().map(resolvers::of).toArray(Resolver[]::new);
+    }
+
+    public <Type> void injectInto(final Context context, final Type instance, final Resolver[] resolvers) {
+        for (int i = 0; i < resolvers.length; i++) setters.get(i).set(instance, resolvers[i].resolve(context));
     }
 
-    @SuppressWarnings("all")
-    public <Type> void injectInto(final Context context, final Type instance) {
-        for (Field field : impl) {
-            field.setAccessible(true);
-            execute(() -> field.set(instance, getByType(context, field).get())).run();
-        }
+    public <Type> void injectInto(final Type instance, final Object[] values) {
+        for (int i = 0; i < values.length; i++) setters.get(i).set(instance, values[i]);
     }
 
-    @SuppressWarnings("all")
-    private Optional<?> getByType(Context context, Field field) {
-        java.lang.reflect.Type type = field.getGenericType();
-        if (type instanceof ParameterizedType) return context.get((ParameterizedType) type);
-        return context.get((Class) type);
+    public void define(final ProviderClass providerClass, final Resolver[] resolvers) {
+        for (int i = 0; i < resolvers.length; i++) providerClass.inject(impl.get(i), resolvers[i]);
     }
 
-    public Stream<? extends Class<?>> dependencies() {
-        return impl.stream().map(Field::getType);
+    public Stream<java.lang.reflect.Type> dependencies() {
+        return impl.stream().map(field -> ProviderTypes.point(field, field.getGenericType()));
     }
 
 }
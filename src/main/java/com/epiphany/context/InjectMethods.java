@@ -6,57 +6,63 @@ import java.lang.reflect.*;
 import java.util.*;
 import java.util.stream.Stream;
 
-import static com.epiphany.general.Exceptions.execute;
-import static java.util.Arrays.stream;
-
 class InjectMethods {
 
     private final List<Method> impl;
+    private final List<Invoker> invokers;
+
+    public <Type> InjectMethods(final Class<Type> component, final Invocation invocation) {
+        this(initInjectMethods(component), invocation);
+    }
 
-    public <Type> InjectMethods(final Class<Type> component) {
-        this.impl = initInjectMethods(component);
+    public InjectMethods(final List<Method> impl, final Invocation invocation) {
         if (impl.stream().anyMatch(o -> o.getTypeParameters().length != 0)) throw new IllegalComponentException();
+        this.impl = impl;
+        impl.forEach(method -> method.setAccessible(true));
+        this.invokers = impl.stream().map(invocation::invoker).toList();
     }
 
-    Stream<Class<?>> dependencies() {
-        return impl.stream().flatMap(m -> stream(m.getParameterTypes()));
+    public List<Method> members() {
+        return impl;
     }
 
-    public <Type> void injectInto(final Context context, final Type instance) {
-        for (Method method : impl) {
-            method.setAccessible(true);
-            execute(() -> method.invoke(instance, toDependencies(context, method))).run();
-        }
+    Stream<java.lang.reflect.Type> dependencies() {
+        return impl.stream().flatMap(m -> ProviderTypes.points(m.getParameters()));
     }
 
-    @SuppressWarnings("all")
-    public Object[] toDependencies(final Context context, final Executable executable) {
-        return stream(executable.getParameters()).map(p -> {
-            java.lang.reflect.Type type = p.getParameterizedType();
-            if (type instanceof ParameterizedType) return context.get((ParameterizedType) type);
-            return context.get((Class<?>) type);
-        }).map(Optional::get).toArray(Object[]::new);
+    public Resolver[][] resolvers(final Resolvers resolvers) {
+        return impl.stream().map(Method::getParameters).map(resolvers::of).toArray(Resolver[][]::new);
     }
 
-    private <Type> List<Method> initInjectMethods(final Class<Type> component) {
-        List<Method> methods = new Traverser<Method>().traverse(component, (m, current) -> InjectStream.of(current.getDeclaredMethods()).injectablePart()
-            .filter(o -> isOverrideByInjectMethod(m, o))
-            .filter(o -> isOverrideByNoInjectMethod(component, o))
-            .toList());
-        Collections.reverse(methods);
-        return methods;
+    public <Type> void injectInto(final Context context, final Type instance, final Resolver[][] resolvers) {
+        for (int i = 0; i < resolvers.length; i++) invokers.get(i).invoke(instance, Resolver.resolve(context, resolvers[i]));
     }
 
-    private <Type> boolean isOverrideByNoInjectMethod(final Class<Type> component, final Method method) {
-        return InjectStream.of(component.getDeclaredMethods()).notInjectablePart().noneMatch(m -> isOverride(method, m));
+    public <Type> void injectInto(final Type instance, final Object[][] arguments) {
+        for (int i = 0; i < arguments.length; i++) invokers.get(i).invoke(instance, arguments[i]);
     }
 
-    private boolean isOverrideByInjectMethod(final List<Method> injectMethods, final Method method) {
-        return injectMethods.stream().noneMatch(m -> isOverride(method, m));
+    public void define(final ProviderClass providerClass, final Resolver[][] resolvers) {
+        for (int i = 0; i < resolvers.length; i++) providerClass.invoke(impl.get(i), resolvers[i]);
     }
 
-    private boolean isOverride(final Method one, final Method another) {
-        return another.getName().equals(one.getName()) && Arrays.equals(another.getParameterTypes(), one.getParameterTypes());
+    private static <Type> List<Method> initInjectMethods(final Class<Type> component) {
+        Set<Signature> overridden = new HashSet<>(InjectStream.of(component.getDeclaredMethods()).notInjectablePart().map(Signature::of).toList());
+        List<Method> methods = new Traverser<Method>().traverse(component, (m, current) -> {
+            List<Method> injectable = InjectStream.of(current.getDeclaredMethods()).injectablePart().filter(o -> !overridden.contains(Signature.of(o))).toList();
+            injectable.forEach(o -> overridden.add(Signature.of(o)));
+            return injectable;
+        });
+        Collections.reverse(methods);
+        return methods;
+    }
+
+    private record Signature(String name, List<Class<?>> parameters) {
+
+        static Signature of(final Method method) {
+            return new Signature(method.getName(), List.of(method.getParameterTypes()));
+        }
+
     }
 
 }
@@ -18,15 +18,15 @@ final class InjectStream<T extends AnnotatedElement> {
     }
 
     public Stream<T> injectablePart() {
-        return stream(content).filter(o -> o.isAnnotationPresent(Inject.class));
+        return stream(content).filter(o -> ComponentIndex.present(o, Inject.class));
     }
 
     public Stream<T> notInjectablePart() {
-        return stream(content).filter(o -> !o.isAnnotationPresent(Inject.class));
+        return stream(content).filter(o -> !ComponentIndex.present(o, Inject.class));
     }
 
     public Stream<T> injectionPart() {
-        return stream(content).filter(o -> o.isAnnotationPresent(Injection.class));
+        return stream(content).filter(o -> ComponentIndex.present(o, Injection.class));
     }
 
 }
@@ -0,0 +1,27 @@
+package com.epiphany.context;
+
+import java.util.List;
+
+public interface InjectionFactory<Type> {
+
+    String SUFFIX = "$$Factory";
+
+    List<Class<?>> dependencies();
+
+    Type create(final Object[] arguments) throws Exception;
+
+    default Type construct(final Object[] arguments) throws Exception {
+        return create(arguments);
+    }
+
+    default void injectFields(final Type instance, final Object[] arguments) throws Exception {
+    }
+
+    default void injectMethods(final Type instance, final Object[] arguments) throws Exception {
+    }
+
+    default List<InjectionMethod<?>> injections() {
+        return List.of();
+    }
+
+}
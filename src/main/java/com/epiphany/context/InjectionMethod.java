@@ -0,0 +1,15 @@
+package com.epiphany.context;
+
+import java.util.List;
+
+public interface InjectionMethod<Type> {
+
+    Class<?> type();
+
+    Scope scope();
+
+    List<Class<?>> dependencies();
+
+    Type invoke(final Object injections, final Object[] arguments) throws Exception;
+
+}
@@ -1,47 +1,96 @@
 package com.epiphany.context;
 
-import com.epiphany.context.exception.*;
-
 import java.util.*;
 
 class InjectionProviders {
 
     private final Map<Class<?>, Provider<?>> impl;
+    private final Invocation invocation;
+    private final PlanCache plans;
+    private long fingerprint;
 
-    public InjectionProviders() {
+    public InjectionProviders(final Invocation invocation, final PlanCache plans) {
         this.impl = new HashMap<>();
-    }
-
-    public <Type> Provider<?> get(final Class<Type> type) {
-        return impl.get(type);
+        this.invocation = invocation;
+        this.plans = plans;
     }
 
     public <Type> void register(final Class<Type> type, final Type instance) {
-        impl.put(type, context -> instance);
+        publish(Map.of(type, new InstanceProvider<>(instance)));
     }
 
     public <Type, Implementation extends Type> void register(final Class<Type> type, final Class<Implementation> implementation) {
-        impl.put(type, new GeneralInjectionProvider<>(implementation));
-        if (!implementation.isAnnotationPresent(Injections.class)) return;
-        InjectStream.of(implementation.getDeclaredMethods()).injectionPart().forEach(method -> impl.put(method.getReturnType(), new ExplicitInjectionProvider<>(type, method)));
+        this.register(type, implementation, Scope.of(implementation));
+    }
+
+    public <Type, Implementation extends Type> void register(final Class<Type> type, final Class<Implementation> implementation, final Scope scope) {
+        FactoryProvider.of(implementation).ifPresentOrElse(factory -> generated(type, implementation, factory, scope), () -> reflective(type, implementation, scope));
     }
 
     public <Type, Implementation extends Type> void register(final InjectClasses<Type, Implementation> injectClasses) {
         this.register(injectClasses.type(), injectClasses.implementation());
     }
 
-    public void checkDependencies() {
-        impl.keySet().forEach(component -> checkDependencies(component, new Stack<>()));
+    public Bindings compile() {
+        ContextBuildEvent event = new ContextBuildEvent();
+        event.begin();
+        Registrations snapshot = snapshot();
+        ClassIndex index = new ClassIndex(snapshot.providers().keySet());
+        Provider<?>[] providers = providers(index, snapshot.providers());
+        long validating = System.nanoTime();
+        event.trusted = GraphFingerprint.TRUSTED.trusts(snapshot.fingerprint());
+        if (!event.trusted) new DependencyGraph(index, providers).check();
+        long compiling = System.nanoTime();
+        Bindings bindings = new Bindings(index, providers);
+        event.bindings = providers.length;
+        event.validation = compiling - validating;
+        event.compilation = System.nanoTime() - compiling;
+        event.commit();
+        plans.save();
+        return bindings;
+    }
+
+    public String validate() {
+        Registrations snapshot = snapshot();
+        ClassIndex index = new ClassIndex(snapshot.providers().keySet());
+        new DependencyGraph(index, providers(index, snapshot.providers())).check();
+        return GraphFingerprint.format(snapshot.fingerprint());
+    }
+
+    private synchronized void publish(final Map<Class<?>, Provider<?>> providers) {
+        providers.forEach((type, provider) -> {
+            Provider<?> replaced = impl.put(type, provider);
+            if (replaced != null) fingerprint -= GraphFingerprint.of(type, replaced);
+            fingerprint += GraphFingerprint.of(type, provider);
+        });
+    }
+
+    private synchronized Registrations snapshot() {
+        return new Registrations(Map.copyOf(impl), fingerprint);
+    }
+
+    private static Provider<?>[] providers(final ClassIndex index, final Map<Class<?>, Provider<?>> snapshot) {
+        Provider<?>[] providers = new Provider<?>[index.size()];
+        Arrays.setAll(providers, id -> snapshot.get(index.type(id)));
+        return providers;
+    }
+
+    private <Type, Implementation extends Type> void generated(final Class<Type> type, final Class<Implementation> implementation, final InjectionFactory<Implementation> factory, final Scope scope) {
+        Map<Class<?>, Provider<?>> providers = new HashMap<>();
+        providers.put(type, scope.apply(new RecordingProvider<>(type, implementation, new FactoryProvider<>(factory))));
+        factory.injections().forEach(method -> providers.put(method.type(), method.scope().apply(new RecordingProvider<>(method.type(), implementation, new ExplicitFactoryProvider<>(type, method)))));
+        publish(providers);
+    }
+
+    private <Type, Implementation extends Type> void reflective(final Class<Type> type, final Class<Implementation> implementation, final Scope scope) {
+        ComponentMetadata<Implementation> metadata = plans.metadata(implementation, invocation);
+        Map<Class<?>, Provider<?>> providers = new HashMap<>();
+        providers.put(type, scope.apply(new RecordingProvider<>(type, implementation, new GeneralInjectionProvider<>(metadata, invocation))));
+        metadata.injections().forEach(method -> providers.put(method.getReturnType(), Scope.of(method).apply(new RecordingProvider<>(method.getReturnType(), implementation, new ExplicitInjectionProvider<>(type, method, invocation)))));
+        publish(providers);
     }
 
-    private void checkDependencies(final Class<?> component, final Stack<Class<?>> visiting) {
-        for (Class<?> dependency : impl.get(component).dependencies()) {
-            if (!impl.containsKey(dependency)) throw new DependencyNotFoundException(dependency, component);
-            if (visiting.contains(dependency)) throw new CyclicDependenciesFoundException(visiting);
-            visiting.push(dependency);
-            this.checkDependencies(dependency, visiting);
-            visiting.pop();
-        }
+    private record Registrations(Map<Class<?>, Provider<?>> providers, long fingerprint) {
     }
 
 }
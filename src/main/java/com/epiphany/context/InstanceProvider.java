@@ -0,0 +1,28 @@
+package com.epiphany.context;
+
+import java.util.concurrent.*;
+
+final class InstanceProvider<Type> implements Provider<Type> {
+
+    private final Type instance;
+
+    public InstanceProvider(final Type instance) {
+        this.instance = instance;
+    }
+
+    @Override
+    public Type get(final Context context) {
+        return instance;
+    }
+
+    @Override
+    public CompletableFuture<Type> getAsync(final Context context, final Executor executor) {
+        return CompletableFuture.completedFuture(instance);
+    }
+
+    @Override
+    public Scope scope() {
+        return Scope.SINGLETON;
+    }
+
+}
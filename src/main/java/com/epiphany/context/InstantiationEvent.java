@@ -0,0 +1,22 @@
+package com.epiphany.context;
+
+import jdk.jfr.*;
+
+@Name("com.epiphany.Instantiation")
+@Label("Instantiation")
+@Category("Epiphany")
+@Description("Creation of a component instance, including its nested dependencies")
+@StackTrace(false)
+final class InstantiationEvent extends Event {
+
+    @Label("Binding Type")
+    Class<?> bindingType;
+
+    @Label("Implementation")
+    Class<?> implementation;
+
+    @Label("Depth")
+    @Description("Number of enclosing instantiations on the same thread")
+    int depth;
+
+}
@@ -0,0 +1,99 @@
+package com.epiphany.context;
+
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+
+import static com.epiphany.general.Exceptions.*;
+import static java.lang.invoke.MethodType.methodType;
+
+public enum Invocation {
+
+    REFLECTION {
+        @Override
+        Invoker invoker(final Constructor<?> constructor) {
+            return (target, arguments) -> evaluate(() -> constructor.newInstance(arguments)).evaluate();
+        }
+
+        @Override
+        Invoker invoker(final Method method) {
+            return (target, arguments) -> evaluate(() -> method.invoke(target, arguments)).evaluate();
+        }
+
+        @Override
+        Setter setter(final Field field) {
+            return (target, value) -> execute(() -> field.set(target, value)).run();
+        }
+    },
+
+    METHOD_HANDLE {
+        @Override
+        Invoker invoker(final Constructor<?> constructor) {
+            MethodHandle handle = evaluate(() -> lookup(constructor).unreflectConstructor(constructor)).evaluate();
+            return new HandleInvoker(MethodHandles.dropArguments(spread(handle, constructor.getParameterCount()), 0, Object.class));
+        }
+
+        @Override
+        Invoker invoker(final Method method) {
+            MethodHandle handle = evaluate(() -> lookup(method).unreflect(method)).evaluate();
+            return new HandleInvoker(receiver(spread(handle, method.getParameterCount()), method));
+        }
+
+        @Override
+        Setter setter(final Field field) {
+            MethodHandle handle = evaluate(() -> lookup(field).unreflectSetter(field)).evaluate();
+            return new HandleSetter(receiver(handle, field).asType(methodType(void.class, Object.class, Object.class)));
+        }
+
+        private MethodHandles.Lookup lookup(final Member member) {
+            return evaluate(() -> MethodHandles.privateLookupIn(member.getDeclaringClass(), MethodHandles.lookup())).evaluate();
+        }
+
+        private MethodHandle spread(final MethodHandle handle, final int parameters) {
+            MethodHandle guarded = MethodHandles.catchException(handle, Throwable.class, MethodHandles.filterArguments(MethodHandles.throwException(handle.type().returnType(), RuntimeException.class), 0, FAILED));
+            return guarded.asType(handle.type().generic()).asSpreader(Object[].class, parameters);
+        }
+
+        private MethodHandle receiver(final MethodHandle handle, final Member member) {
+            return Modifier.isStatic(member.getModifiers()) ? MethodHandles.dropArguments(handle, 0, Object.class) : handle;
+        }
+    },
+
+    HIDDEN_CLASS {
+        @Override
+        Invoker invoker(final Constructor<?> constructor) {
+            return METHOD_HANDLE.invoker(constructor);
+        }
+
+        @Override
+        Invoker invoker(final Method method) {
+            return METHOD_HANDLE.invoker(method);
+        }
+
+        @Override
+        Setter setter(final Field field) {
+            return METHOD_HANDLE.setter(field);
+        }
+
+        @Override
+        <Type> Provider<Type> compile(final GeneralInjectionProvider<Type> provider) {
+            return provider.generate();
+        }
+    };
+
+    private static final MethodHandle FAILED = evaluate(() -> MethodHandles.lookup().findStatic(Invocation.class, "failed", methodType(RuntimeException.class, Throwable.class))).evaluate();
+
+    abstract Invoker invoker(final Constructor<?> constructor);
+
+    abstract Invoker invoker(final Method method);
+
+    abstract Setter setter(final Field field);
+
+    <Type> Provider<Type> compile(final GeneralInjectionProvider<Type> provider) {
+        return provider;
+    }
+
+    private static RuntimeException failed(final Throwable cause) {
+        return new RuntimeException(new InvocationTargetException(cause));
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.epiphany.context;
+
+@FunctionalInterface
+interface Invoker {
+
+    Object invoke(final Object target, final Object[] arguments);
+
+}
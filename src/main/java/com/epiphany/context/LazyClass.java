@@ -0,0 +1,176 @@
+package com.epiphany.context;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.function.Supplier;
+
+import static com.epiphany.general.Exceptions.evaluate;
+import static java.lang.invoke.MethodType.methodType;
+
+final class LazyClass {
+
+    private static final String SUPPLIER = "java/util/function/Supplier";
+    private static final String TARGET = "L" + SUPPLIER + ";";
+    private static final MethodHandle ALLOCATE = evaluate(LazyClass::allocator).evaluate();
+    private static final Set<String> IDENTITY = Set.of("equals(Ljava/lang/Object;)Z", "hashCode()I", "toString()Ljava/lang/String;", "finalize()V");
+    private static final int ACC_PUBLIC_PROTECTED = 0x0005;
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_PRIVATE = 0x0002;
+    private static final int ACC_FINAL_SUPER_SYNTHETIC = 0x1030;
+    private static final int ICONST_0 = 0x03;
+    private static final int ICONST_1 = 0x04;
+    private static final int ILOAD = 0x15;
+    private static final int LLOAD = 0x16;
+    private static final int FLOAD = 0x17;
+    private static final int DLOAD = 0x18;
+    private static final int ALOAD = 0x19;
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int IF_ACMPNE = 0xa6;
+    private static final int IRETURN = 0xac;
+    private static final int LRETURN = 0xad;
+    private static final int FRETURN = 0xae;
+    private static final int DRETURN = 0xaf;
+    private static final int ARETURN = 0xb0;
+    private static final int RETURN = 0xb1;
+    private static final int GETFIELD = 0xb4;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int INVOKEINTERFACE = 0xb9;
+    private static final int CHECKCAST = 0xc0;
+    private static final int SAME_FRAME = 0;
+
+    private final Class<?> component;
+    private final String name;
+    private final ConstantPool pool;
+    private final Collection<Method> methods;
+
+    public LazyClass(final Class<?> component) {
+        this.component = component;
+        this.name = internalName(component) + "$$Lazy";
+        this.pool = new ConstantPool();
+        this.methods = methods(component);
+    }
+
+    public static boolean supports(final Class<?> component) {
+        if (component.isPrimitive() || component.isArray() || component.isSealed() || Modifier.isFinal(component.getModifiers())) return false;
+        if (!component.getModule().isOpen(component.getPackageName(), LazyClass.class.getModule())) return false;
+        return methods(component).stream().allMatch(method -> overridable(component, method));
+    }
+
+    public MethodHandle define() throws ReflectiveOperationException {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(component, MethodHandles.lookup()).defineHiddenClass(toByteArray(), true);
+        MethodHandle target = lookup.findSetter(lookup.lookupClass(), "target", Supplier.class).asType(methodType(void.class, Object.class, Supplier.class));
+        MethodHandle initialized = MethodHandles.foldArguments(MethodHandles.dropArguments(MethodHandles.identity(Object.class), 1, Supplier.class), target);
+        return MethodHandles.foldArguments(initialized, ALLOCATE.bindTo(lookup.lookupClass()));
+    }
+
+    private static MethodHandle allocator() throws ReflectiveOperationException {
+        Class<?> unsafe = Class.forName("sun.misc.Unsafe");
+        Field field = unsafe.getDeclaredField("theUnsafe");
+        field.setAccessible(true);
+        return MethodHandles.lookup().findVirtual(unsafe, "allocateInstance", methodType(Object.class, Class.class)).bindTo(field.get(null));
+    }
+
+    private static Collection<Method> methods(final Class<?> component) {
+        Map<String, Method> methods = new LinkedHashMap<>();
+        for (Class<?> type = component; type != Object.class; type = type.getSuperclass())
+            for (Method method : type.getDeclaredMethods())
+                if (!Modifier.isStatic(method.getModifiers()) && !Modifier.isPrivate(method.getModifiers())) methods.putIfAbsent(signature(method), method);
+        for (Method method : component.getMethods())
+            if (method.getDeclaringClass() != Object.class && !Modifier.isStatic(method.getModifiers())) methods.putIfAbsent(signature(method), method);
+        IDENTITY.forEach(methods::remove);
+        return methods.values();
+    }
+
+    private static boolean overridable(final Class<?> component, final Method method) {
+        if (Modifier.isFinal(method.getModifiers())) return false;
+        return Modifier.isPublic(method.getModifiers()) || method.getDeclaringClass().getPackage() == component.getPackage();
+    }
+
+    private byte[] toByteArray() {
+        ClassBytes body = new ClassBytes().u2(ACC_FINAL_SUPER_SYNTHETIC).u2(pool.type(name)).u2(pool.type(internalName(component))).u2(0);
+        body.u2(1).u2(ACC_PRIVATE).u2(pool.utf8("target")).u2(pool.utf8(TARGET)).u2(0);
+        body.u2(methods.size() + 3);
+        ClassBytes frames = new ClassBytes().u2(1).u1(SAME_FRAME + 7);
+        method(body, ACC_PUBLIC, "equals", "(Ljava/lang/Object;)Z", code(2, 2, equality()).u2(0).u2(1).u2(pool.utf8("StackMapTable")).u4(frames.length()).bytes(frames));
+        method(body, ACC_PUBLIC, "hashCode", "()I", code(1, 1, identityHashCode()).u2(0).u2(0));
+        method(body, ACC_PUBLIC, "toString", "()Ljava/lang/String;", code(1, 1, description()).u2(0).u2(0));
+        for (Method method : methods) delegate(body, method);
+        body.u2(0);
+        return pool.writeTo(new ClassBytes().u4(0xCAFEBABE).u2(0).u2(61)).bytes(body).toByteArray();
+    }
+
+    private ClassBytes equality() {
+        return new ClassBytes().u1(ALOAD_0).u1(ALOAD_1).u1(IF_ACMPNE).u2(5).u1(ICONST_1).u1(IRETURN).u1(ICONST_0).u1(IRETURN);
+    }
+
+    private ClassBytes identityHashCode() {
+        return new ClassBytes().u1(ALOAD_0).u1(INVOKESTATIC).u2(pool.method("java/lang/System", "identityHashCode", "(Ljava/lang/Object;)I")).u1(IRETURN);
+    }
+
+    private ClassBytes description() {
+        return new ClassBytes().u1(ALOAD_0).u1(GETFIELD).u2(pool.field(name, "target", TARGET))
+            .u1(INVOKEVIRTUAL).u2(pool.method("java/lang/Object", "toString", "()Ljava/lang/String;")).u1(ARETURN);
+    }
+
+    private void delegate(final ClassBytes body, final Method method) {
+        ClassBytes instructions = new ClassBytes().u1(ALOAD_0).u1(GETFIELD).u2(pool.field(name, "target", TARGET))
+            .u1(INVOKEINTERFACE).u2(pool.interfaceMethod(SUPPLIER, "get", "()Ljava/lang/Object;")).u1(1).u1(0)
+            .u1(CHECKCAST).u2(pool.type(internalName(component)));
+        int slot = 1;
+        for (Class<?> type : method.getParameterTypes()) {
+            instructions.u1(load(type)).u1(slot);
+            slot += size(type);
+        }
+        instructions.u1(INVOKEVIRTUAL).u2(pool.method(internalName(component), method.getName(), descriptor(method))).u1(returns(method.getReturnType()));
+        int maxStack = Math.max(slot, size(method.getReturnType()));
+        method(body, method.getModifiers() & ACC_PUBLIC_PROTECTED, method.getName(), descriptor(method), code(maxStack, slot, instructions).u2(0).u2(0));
+    }
+
+    private void method(final ClassBytes body, final int access, final String methodName, final String descriptor, final ClassBytes attribute) {
+        body.u2(access).u2(pool.utf8(methodName)).u2(pool.utf8(descriptor)).u2(1);
+        body.u2(pool.utf8("Code")).u4(attribute.length()).bytes(attribute);
+    }
+
+    private static ClassBytes code(final int maxStack, final int maxLocals, final ClassBytes instructions) {
+        return new ClassBytes().u2(maxStack).u2(maxLocals).u4(instructions.length()).bytes(instructions);
+    }
+
+    private static int load(final Class<?> type) {
+        if (!type.isPrimitive()) return ALOAD;
+        if (type == long.class) return LLOAD;
+        if (type == float.class) return FLOAD;
+        if (type == double.class) return DLOAD;
+        return ILOAD;
+    }
+
+    private static int returns(final Class<?> type) {
+        if (type == void.class) return RETURN;
+        if (!type.isPrimitive()) return ARETURN;
+        if (type == long.class) return LRETURN;
+        if (type == float.class) return FRETURN;
+        if (type == double.class) return DRETURN;
+        return IRETURN;
+    }
+
+    private static int size(final Class<?> type) {
+        if (type == void.class) return 0;
+        return type == long.class || type == double.class ? 2 : 1;
+    }
+
+    private static String signature(final Method method) {
+        return method.getName() + descriptor(method);
+    }
+
+    private static String descriptor(final Method method) {
+        return methodType(method.getReturnType(), method.getParameterTypes()).toMethodDescriptorString();
+    }
+
+    private static String internalName(final Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+}
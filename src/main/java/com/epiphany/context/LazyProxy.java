@@ -0,0 +1,78 @@
+package com.epiphany.context;
+
+import com.epiphany.InjectionProvider;
+import com.epiphany.general.Exceptions;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static com.epiphany.general.Exceptions.evaluate;
+import static java.lang.invoke.MethodType.methodType;
+
+final class LazyProxy implements InvocationHandler, Supplier<Object> {
+
+    private static final ClassValue<MethodHandle> SUBCLASSES = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(final Class<?> type) {
+            return evaluate(() -> new LazyClass(type).define()).evaluate();
+        }
+    };
+
+    private final Class<?> type;
+    private final InjectionProvider<?> handle;
+    private final Map<Method, MethodHandle> bound;
+    private volatile Object target;
+
+    private LazyProxy(final Class<?> type, final InjectionProvider<?> handle) {
+        this.type = type;
+        this.handle = handle;
+        this.bound = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] arguments) throws Throwable {
+        if (method.getDeclaringClass() != Object.class) {
+            Object current = get();
+            return bound.computeIfAbsent(method, m -> bind(m, current)).invoke(arguments);
+        }
+        if (method.getName().equals("equals")) return proxy == arguments[0];
+        if (method.getName().equals("hashCode")) return System.identityHashCode(proxy);
+        return toString();
+    }
+
+    @Override
+    public Object get() {
+        Object current = target;
+        if (current != null) return current;
+        synchronized (this) {
+            if (target == null) target = handle.get();
+            return target;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return type.getName() + "$$Lazy";
+    }
+
+    private static MethodHandle bind(final Method method, final Object target) {
+        method.setAccessible(true);
+        return evaluate(() -> MethodHandles.lookup().unreflect(method)).evaluate().bindTo(target)
+            .asSpreader(Object[].class, method.getParameterCount()).asType(methodType(Object.class, Object[].class));
+    }
+
+    public static Object of(final Class<?> type, final InjectionProvider<?> handle) {
+        LazyProxy proxy = new LazyProxy(type, handle);
+        if (type.isInterface()) return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, proxy);
+        try {
+            return (Object) SUBCLASSES.get(type).invokeExact((Supplier<?>) proxy);
+        } catch (Throwable e) {
+            throw Exceptions.wrap(e);
+        }
+    }
+
+}
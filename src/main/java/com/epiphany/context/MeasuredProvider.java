@@ -0,0 +1,41 @@
+package com.epiphany.context;
+
+import java.util.List;
+import java.util.concurrent.*;
+
+final class MeasuredProvider<Type> implements Provider<Type> {
+
+    private final Provider<Type> provider;
+    private final Provider<Type> measured;
+
+    public MeasuredProvider(final Provider<Type> provider, final Provider<Type> measured) {
+        this.provider = provider;
+        this.measured = measured;
+    }
+
+    @Override
+    public Type get(final Context context) {
+        return measured.get(context);
+    }
+
+    @Override
+    public CompletableFuture<Type> getAsync(final Context context, final Executor executor) {
+        return provider.getAsync(context, executor);
+    }
+
+    @Override
+    public List<Class<?>> dependencies() {
+        return provider.dependencies();
+    }
+
+    @Override
+    public List<Class<?>> deferredDependencies() {
+        return provider.deferredDependencies();
+    }
+
+    @Override
+    public Scope scope() {
+        return provider.scope();
+    }
+
+}
@@ -0,0 +1,180 @@
+package com.epiphany.context;
+
+import java.io.*;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.net.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+
+import static com.epiphany.general.Exceptions.*;
+
+final class PlanCache {
+
+    static final PlanCache NONE = new PlanCache(null, Map.of());
+
+    private static final int MAGIC = 0x45504331;
+
+    private static final ClassValue<Optional<String>> IDENTITIES = new ClassValue<>() {
+        @Override
+        protected Optional<String> computeValue(final Class<?> type) {
+            return ignored(() -> Optional.of(identity(type)), Optional.empty());
+        }
+    };
+
+    private final Path file;
+    private final Map<String, Plan> recorded;
+    private volatile Map<String, Plan> plans;
+
+    private PlanCache(final Path file, final Map<String, Plan> plans) {
+        this.file = file;
+        this.recorded = new ConcurrentHashMap<>();
+        this.plans = plans;
+    }
+
+    public static PlanCache load(final Path file) {
+        return new PlanCache(file, ignored(() -> read(file), Map.of()));
+    }
+
+    public <Type> ComponentMetadata<Type> metadata(final Class<Type> component, final Invocation invocation) {
+        ComponentMetadata<Type> metadata = ComponentMetadata.of(component, invocation, this);
+        if (file != null) IDENTITIES.get(component).ifPresent(identity -> recorded.put(component.getName(), Plan.of(identity, metadata)));
+        return metadata;
+    }
+
+    public <Type> Optional<ComponentMetadata<Type>> restore(final Class<Type> component, final Invocation invocation) {
+        Plan plan = plans.get(component.getName());
+        if (plan == null || !IDENTITIES.get(component).equals(Optional.of(plan.identity()))) return Optional.empty();
+        return ignored(() -> Optional.of(plan.restore(component, invocation)), Optional.empty());
+    }
+
+    public synchronized void save() {
+        if (plans.entrySet().containsAll(recorded.entrySet())) return;
+        Map<String, Plan> merged = new TreeMap<>(plans);
+        merged.putAll(recorded);
+        ignored(() -> {
+            write(merged);
+            plans = merged;
+        });
+    }
+
+    private void write(final Map<String, Plan> merged) throws IOException {
+        Path temporary = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(merged.size());
+            for (Map.Entry<String, Plan> entry : merged.entrySet()) {
+                string(output, entry.getKey());
+                entry.getValue().writeTo(output);
+            }
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static Map<String, Plan> read(final Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        ByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } finally {
+            channel.close();
+        }
+        if (buffer.getInt() != MAGIC) return Map.of();
+        Map<String, Plan> plans = new HashMap<>();
+        for (int count = buffer.getInt(); count > 0; count--)
+            plans.put(string(buffer), new Plan(string(buffer), string(buffer), strings(buffer), strings(buffer), strings(buffer)));
+        return plans;
+    }
+
+    private static String identity(final Class<?> component) throws Exception {
+        StringJoiner identity = new StringJoiner(" ");
+        for (Class<?> type = component; type != Object.class; type = type.getSuperclass())
+            identity.add(identity(Objects.requireNonNull(type.getResource("/" + type.getName().replace('.', '/') + ".class"))));
+        return identity.toString();
+    }
+
+    private static String identity(final URL classFile) throws Exception {
+        if (classFile.openConnection() instanceof JarURLConnection connection) {
+            JarEntry entry = connection.getJarEntry();
+            return Long.toHexString(entry.getCrc()) + ":" + entry.getSize();
+        }
+        BasicFileAttributes attributes = Files.readAttributes(Path.of(classFile.toURI()), BasicFileAttributes.class);
+        return attributes.lastModifiedTime().toMillis() + ":" + attributes.size();
+    }
+
+    private static void string(final DataOutputStream output, final String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String string(final ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> strings(final ByteBuffer buffer) {
+        List<String> values = new ArrayList<>();
+        for (int count = buffer.getInt(); count > 0; count--) values.add(string(buffer));
+        return values;
+    }
+
+    private record Plan(String identity, String constructor, List<String> fields, List<String> methods, List<String> injections) {
+
+        static Plan of(final String identity, final ComponentMetadata<?> metadata) {
+            String constructor = descriptor(void.class, metadata.constructor().member().getParameterTypes());
+            List<String> fields = metadata.injectFields().members().stream().map(field -> field.getDeclaringClass().getName() + " " + field.getName()).toList();
+            List<String> methods = metadata.injectMethods().members().stream().map(Plan::method).toList();
+            return new Plan(identity, constructor, fields, methods, metadata.injections().stream().map(Plan::method).toList());
+        }
+
+        <Type> ComponentMetadata<Type> restore(final Class<Type> component, final Invocation invocation) throws Exception {
+            ClassLoader loader = component.getClassLoader();
+            Constructor<Type> restored = component.getDeclaredConstructor(parameters(constructor, loader));
+            List<Field> restoredFields = fields.stream().map(field -> evaluate(() -> field(field, loader)).evaluate()).toList();
+            List<Method> restoredMethods = methods.stream().map(method -> evaluate(() -> method(method, loader)).evaluate()).toList();
+            List<Method> restoredInjections = injections.stream().map(method -> evaluate(() -> method(method, loader)).evaluate()).toList();
+            return new ComponentMetadata<>(new InjectConstructor<>(restored, invocation), new InjectFields(restoredFields, invocation), new InjectMethods(restoredMethods, invocation), restoredInjections);
+        }
+
+        void writeTo(final DataOutputStream output) throws IOException {
+            string(output, identity);
+            string(output, constructor);
+            for (List<String> values : List.of(fields, methods, injections)) {
+                output.writeInt(values.size());
+                for (String value : values) string(output, value);
+            }
+        }
+
+        private static String method(final Method method) {
+            return method.getDeclaringClass().getName() + " " + method.getName() + " " + descriptor(method.getReturnType(), method.getParameterTypes());
+        }
+
+        private static Field field(final String field, final ClassLoader loader) throws Exception {
+            String[] parts = field.split(" ");
+            return Class.forName(parts[0], false, loader).getDeclaredField(parts[1]);
+        }
+
+        private static Method method(final String method, final ClassLoader loader) throws Exception {
+            String[] parts = method.split(" ");
+            return Class.forName(parts[0], false, loader).getDeclaredMethod(parts[1], parameters(parts[2], loader));
+        }
+
+        private static Class<?>[] parameters(final String descriptor, final ClassLoader loader) {
+            return MethodType.fromMethodDescriptorString(descriptor, loader).parameterArray();
+        }
+
+        private static String descriptor(final Class<?> returnType, final Class<?>[] parameterTypes) {
+            return MethodType.methodType(returnType, parameterTypes).toMethodDescriptorString();
+        }
+
+    }
+
+}
@@ -1,13 +1,38 @@
 package com.epiphany.context;
 
 import java.util.List;
+import java.util.concurrent.*;
 
 interface Provider<Type> {
 
     Type get(final Context context);
 
+    default CompletableFuture<Type> getAsync(final Context context, final Executor executor) {
+        return CompletableFuture.supplyAsync(() -> get(context), executor);
+    }
+
     default List<Class<?>> dependencies() {
         return List.of();
     }
 
+    default List<Class<?>> deferredDependencies() {
+        return List.of();
+    }
+
+    default Scope scope() {
+        return Scope.PROTOTYPE;
+    }
+
+    default Provider<Type> measure(final BindingMetrics metrics) {
+        return this;
+    }
+
+    default Provider<Type> compile(final Resolvers resolvers) {
+        return this;
+    }
+
+    default Provider<Type> fresh() {
+        return this;
+    }
+
 }
@@ -0,0 +1,220 @@
+package com.epiphany.context;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.*;
+import java.util.*;
+
+import static com.epiphany.general.Exceptions.evaluate;
+import static com.epiphany.general.Exceptions.ignored;
+import static java.lang.invoke.MethodHandles.Lookup.ClassOption.NESTMATE;
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Arrays.stream;
+
+final class ProviderClass {
+
+    private static final String GENERATED_PROVIDER = internalName(GeneratedProvider.class);
+    private static final String CONTEXT = internalName(Context.class);
+    private static final String HANDLE = "java/lang/invoke/MethodHandle";
+    private static final String HANDLES = "java/lang/invoke/MethodHandles";
+    private static final String LOOKUP = "java/lang/invoke/MethodHandles$Lookup";
+    private static final String THROWABLE = "java/lang/Throwable";
+    private static final String RUNTIME_EXCEPTION = "java/lang/RuntimeException";
+    private static final String INVOCATION_TARGET_EXCEPTION = "java/lang/reflect/InvocationTargetException";
+    private static final String GET = "(L" + CONTEXT + ";)Ljava/lang/Object;";
+    private static final String WRAP = "(L" + THROWABLE + ";)V";
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_STATIC = 0x0008;
+    private static final int ACC_PRIVATE_STATIC_FINAL = 0x001A;
+    private static final int ACC_FINAL_SUPER_SYNTHETIC = 0x1030;
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int ALOAD_2 = 0x2c;
+    private static final int ALOAD_3 = 0x2d;
+    private static final int ASTORE_0 = 0x4b;
+    private static final int ASTORE_2 = 0x4d;
+    private static final int ASTORE_3 = 0x4e;
+    private static final int SIPUSH = 0x11;
+    private static final int LDC_W = 0x13;
+    private static final int POP = 0x57;
+    private static final int POP2 = 0x58;
+    private static final int DUP = 0x59;
+    private static final int ARETURN = 0xb0;
+    private static final int RETURN = 0xb1;
+    private static final int GETSTATIC = 0xb2;
+    private static final int PUTSTATIC = 0xb3;
+    private static final int PUTFIELD = 0xb5;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int NEW = 0xbb;
+    private static final int ATHROW = 0xbf;
+    private static final int CHECKCAST = 0xc0;
+    private static final int FULL_FRAME = 255;
+    private static final int ITEM_OBJECT = 7;
+    private static final MethodHandle RESOLVE = evaluate(() -> MethodHandles.lookup().findVirtual(Resolver.class, "resolve", methodType(Object.class, Context.class))).evaluate();
+
+    private final Class<?> component;
+    private final String name;
+    private final ConstantPool pool;
+    private final ClassBytes code;
+    private final List<int[]> guarded;
+    private final List<MethodHandle> resolvers;
+    private boolean supported;
+    private int stack;
+    private int maxStack;
+
+    public ProviderClass(final Constructor<?> constructor, final Resolver[] arguments) {
+        this.component = constructor.getDeclaringClass();
+        this.name = internalName(component) + "$$Provider";
+        this.pool = new ConstantPool();
+        this.code = new ClassBytes();
+        this.guarded = new ArrayList<>();
+        this.resolvers = new ArrayList<>();
+        this.supported = true;
+        emit(NEW, 1).u2(pool.type(internalName(component)));
+        emit(DUP, 1);
+        resolve(constructor.getParameterTypes(), arguments);
+        guard(INVOKESPECIAL, -2 - arguments.length, pool.method(internalName(component), "<init>", descriptor(void.class, constructor.getParameterTypes())));
+        emit(ASTORE_2, -1);
+    }
+
+    public void inject(final Field field, final Resolver resolver) {
+        supported &= accessible(field);
+        boolean shared = Modifier.isStatic(field.getModifiers());
+        if (!shared) emit(ALOAD_2, 1);
+        resolve(field.getType(), resolver);
+        emit(shared ? PUTSTATIC : PUTFIELD, shared ? -1 : -2).u2(pool.field(internalName(field.getDeclaringClass()), field.getName(), field.getType().descriptorString()));
+    }
+
+    public void invoke(final Method method, final Resolver[] arguments) {
+        supported &= accessible(method);
+        boolean shared = Modifier.isStatic(method.getModifiers());
+        if (!shared) emit(ALOAD_2, 1);
+        resolve(method.getParameterTypes(), arguments);
+        int member = pool.method(internalName(method.getDeclaringClass()), method.getName(), descriptor(method.getReturnType(), method.getParameterTypes()));
+        guard(shared ? INVOKESTATIC : INVOKEVIRTUAL, shared ? -arguments.length : -1 - arguments.length, member);
+        discard(method.getReturnType());
+    }
+
+    public <Type> Optional<Provider<Type>> define(final Provider<Type> provider) {
+        if (!supported) return Optional.empty();
+        emit(ALOAD_2, 1);
+        emit(ARETURN, -1);
+        return ignored(() -> Optional.of(instantiate(toByteArray(), provider)), Optional.empty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <Type> Provider<Type> instantiate(final byte[] bytes, final Provider<Type> provider) throws Exception {
+        Class<?> type = MethodHandles.privateLookupIn(component, MethodHandles.lookup()).defineHiddenClassWithClassData(bytes, List.copyOf(resolvers), true, NESTMATE).lookupClass();
+        Constructor<?> constructor = type.getDeclaredConstructor(Provider.class);
+        constructor.setAccessible(true);
+        return (Provider<Type>) constructor.newInstance(provider);
+    }
+
+    private void resolve(final Class<?>[] types, final Resolver[] arguments) {
+        for (int i = 0; i < types.length; i++) resolve(types[i], arguments[i]);
+    }
+
+    private void resolve(final Class<?> type, final Resolver resolver) {
+        supported &= visible(type);
+        emit(GETSTATIC, 1).u2(pool.field(name, "r" + resolvers.size(), "L" + HANDLE + ";"));
+        emit(ALOAD_1, 1);
+        emit(INVOKEVIRTUAL, -1).u2(pool.method(HANDLE, "invokeExact", GET));
+        emit(CHECKCAST, 0).u2(pool.type(internalName(type)));
+        resolvers.add(RESOLVE.bindTo(resolver));
+    }
+
+    private void guard(final int opcode, final int delta, final int member) {
+        int start = code.length();
+        emit(opcode, delta).u2(member);
+        guarded.add(new int[]{start, code.length()});
+    }
+
+    private void discard(final Class<?> type) {
+        if (type == void.class) return;
+        if (type == long.class || type == double.class) emit(POP2, 0);
+        else emit(POP, 0);
+    }
+
+    private ClassBytes emit(final int opcode, final int delta) {
+        stack += delta;
+        maxStack = Math.max(maxStack, stack + 2);
+        return code.u1(opcode);
+    }
+
+    private boolean accessible(final Member member) {
+        if (member.getDeclaringClass() == component) return true;
+        return !Modifier.isPrivate(member.getModifiers()) && (Modifier.isPublic(member.getModifiers()) || samePackage(member.getDeclaringClass()));
+    }
+
+    private boolean visible(final Class<?> type) {
+        return !type.isPrimitive() && (Modifier.isPublic(type.getModifiers()) || samePackage(type));
+    }
+
+    private boolean samePackage(final Class<?> type) {
+        return type.getPackage() == component.getPackage();
+    }
+
+    private byte[] toByteArray() {
+        int handler = code.length();
+        stack = 1;
+        emit(ASTORE_3, -1);
+        emit(NEW, 1).u2(pool.type(RUNTIME_EXCEPTION));
+        emit(DUP, 1);
+        emit(NEW, 1).u2(pool.type(INVOCATION_TARGET_EXCEPTION));
+        emit(DUP, 1);
+        emit(ALOAD_3, 1);
+        emit(INVOKESPECIAL, -2).u2(pool.method(INVOCATION_TARGET_EXCEPTION, "<init>", WRAP));
+        emit(INVOKESPECIAL, -2).u2(pool.method(RUNTIME_EXCEPTION, "<init>", WRAP));
+        emit(ATHROW, -1);
+        ClassBytes get = code(maxStack, 4, code).u2(guarded.size());
+        for (int[] range : guarded) get.u2(range[0]).u2(range[1]).u2(handler).u2(pool.type(THROWABLE));
+        ClassBytes frame = new ClassBytes().u2(1).u1(FULL_FRAME).u2(handler)
+                .u2(2).u1(ITEM_OBJECT).u2(pool.type(name)).u1(ITEM_OBJECT).u2(pool.type(CONTEXT))
+                .u2(1).u1(ITEM_OBJECT).u2(pool.type(THROWABLE));
+        get.u2(1).u2(pool.utf8("StackMapTable")).u4(frame.length()).bytes(frame);
+
+        ClassBytes body = new ClassBytes().u2(ACC_FINAL_SUPER_SYNTHETIC).u2(pool.type(name)).u2(pool.type(GENERATED_PROVIDER)).u2(0);
+        body.u2(resolvers.size());
+        for (int i = 0; i < resolvers.size(); i++) body.u2(ACC_PRIVATE_STATIC_FINAL).u2(pool.utf8("r" + i)).u2(pool.utf8("L" + HANDLE + ";")).u2(0);
+        body.u2(3);
+        method(body, ACC_STATIC, "<clinit>", "()V", code(4, 1, initializer()).u2(0).u2(0));
+        method(body, ACC_PUBLIC, "<init>", "(L" + internalName(Provider.class) + ";)V", code(2, 2, constructor()).u2(0).u2(0));
+        method(body, ACC_PUBLIC, "get", GET, get);
+        body.u2(0);
+        return pool.writeTo(new ClassBytes().u4(0xCAFEBABE).u2(0).u2(61)).bytes(body).toByteArray();
+    }
+
+    private ClassBytes initializer() {
+        ClassBytes initializer = new ClassBytes().u1(INVOKESTATIC).u2(pool.method(HANDLES, "lookup", "()L" + LOOKUP + ";")).u1(ASTORE_0);
+        for (int i = 0; i < resolvers.size(); i++) {
+            initializer.u1(ALOAD_0).u1(LDC_W).u2(pool.string("_")).u1(LDC_W).u2(pool.type(HANDLE)).u1(SIPUSH).u2(i);
+            initializer.u1(INVOKESTATIC).u2(pool.method(HANDLES, "classDataAt", "(L" + LOOKUP + ";Ljava/lang/String;Ljava/lang/Class;I)Ljava/lang/Object;"));
+            initializer.u1(CHECKCAST).u2(pool.type(HANDLE)).u1(PUTSTATIC).u2(pool.field(name, "r" + i, "L" + HANDLE + ";"));
+        }
+        return initializer.u1(RETURN);
+    }
+
+    private ClassBytes constructor() {
+        return new ClassBytes().u1(ALOAD_0).u1(ALOAD_1).u1(INVOKESPECIAL).u2(pool.method(GENERATED_PROVIDER, "<init>", "(L" + internalName(Provider.class) + ";)V")).u1(RETURN);
+    }
+
+    private void method(final ClassBytes body, final int access, final String methodName, final String descriptor, final ClassBytes attribute) {
+        body.u2(access).u2(pool.utf8(methodName)).u2(pool.utf8(descriptor)).u2(1);
+        body.u2(pool.utf8("Code")).u4(attribute.length()).bytes(attribute);
+    }
+
+    private static ClassBytes code(final int maxStack, final int maxLocals, final ClassBytes instructions) {
+        return new ClassBytes().u2(maxStack).u2(maxLocals).u4(instructions.length()).bytes(instructions);
+    }
+
+    private static String internalName(final Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    private static String descriptor(final Class<?> returnType, final Class<?>[] parameterTypes) {
+        return stream(parameterTypes).map(Class::descriptorString).reduce("(", String::concat) + ")" + returnType.descriptorString();
+    }
+
+}
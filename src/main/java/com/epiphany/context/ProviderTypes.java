@@ -0,0 +1,74 @@
+package com.epiphany.context;
+
+import com.epiphany.AsyncInjectionProvider;
+import com.epiphany.InjectionProvider;
+import com.epiphany.context.exception.IllegalComponentException;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.stream.Stream;
+
+interface ProviderTypes {
+
+    static boolean provider(final java.lang.reflect.Type type) {
+        if (!(type instanceof ParameterizedType)) return false;
+        java.lang.reflect.Type raw = ((ParameterizedType) type).getRawType();
+        return raw == Provider.class || raw == InjectionProvider.class || raw == AsyncInjectionProvider.class || raw == Lazy.class;
+    }
+
+    static boolean lazy(final java.lang.reflect.Type type) {
+        return type instanceof LazyType;
+    }
+
+    static java.lang.reflect.Type point(final AnnotatedElement element, final java.lang.reflect.Type type) {
+        if (!element.isAnnotationPresent(Lazy.class)) return type;
+        Class<?> component = raw(type);
+        if (!component.isInterface() && !LazyClass.supports(component)) throw new IllegalComponentException();
+        return new LazyType(component);
+    }
+
+    static Stream<java.lang.reflect.Type> points(final Parameter[] parameters) {
+        return Arrays.stream(parameters).map(parameter -> point(parameter, parameter.getParameterizedType()));
+    }
+
+    static boolean async(final java.lang.reflect.Type type) {
+        return ((ParameterizedType) type).getRawType() == AsyncInjectionProvider.class;
+    }
+
+    static Class<?> component(final java.lang.reflect.Type type) {
+        return (Class<?>) ((ParameterizedType) type).getActualTypeArguments()[0];
+    }
+
+    static List<Class<?>> dependencies(final Stream<java.lang.reflect.Type> types) {
+        return types.filter(type -> !provider(type)).map(ProviderTypes::raw).toList();
+    }
+
+    static List<Class<?>> deferred(final Stream<java.lang.reflect.Type> types) {
+        return types.filter(ProviderTypes::provider).map(ProviderTypes::component).toList();
+    }
+
+    static Class<?> raw(final java.lang.reflect.Type type) {
+        if (type instanceof ParameterizedType) return (Class<?>) ((ParameterizedType) type).getRawType();
+        return (Class<?>) type;
+    }
+
+    record LazyType(Class<?> component) implements ParameterizedType {
+
+        @Override
+        public java.lang.reflect.Type[] getActualTypeArguments() {
+            return new java.lang.reflect.Type[]{component};
+        }
+
+        @Override
+        public java.lang.reflect.Type getRawType() {
+            return Lazy.class;
+        }
+
+        @Override
+        public java.lang.reflect.Type getOwnerType() {
+            return null;
+        }
+
+    }
+
+}
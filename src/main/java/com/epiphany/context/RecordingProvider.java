@@ -0,0 +1,72 @@
+package com.epiphany.context;
+
+import jdk.jfr.EventType;
+
+import java.util.List;
+import java.util.concurrent.*;
+
+final class RecordingProvider<Type> implements Provider<Type> {
+
+    private static final EventType EVENT = EventType.getEventType(InstantiationEvent.class);
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final Class<?> type;
+    private final Class<?> implementation;
+    private final Provider<Type> provider;
+
+    public RecordingProvider(final Class<?> type, final Class<?> implementation, final Provider<Type> provider) {
+        this.type = type;
+        this.implementation = implementation;
+        this.provider = provider;
+    }
+
+    @Override
+    public Type get(final Context context) {
+        if (!EVENT.isEnabled()) return provider.get(context);
+        InstantiationEvent event = new InstantiationEvent();
+        int[] depth = DEPTH.get();
+        event.begin();
+        event.depth = depth[0]++;
+        try {
+            return provider.get(context);
+        } finally {
+            depth[0]--;
+            commit(event);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Type> getAsync(final Context context, final Executor executor) {
+        if (!EVENT.isEnabled()) return provider.getAsync(context, executor);
+        InstantiationEvent event = new InstantiationEvent();
+        event.begin();
+        return provider.getAsync(context, executor).whenComplete((instance, failure) -> commit(event));
+    }
+
+    @Override
+    public List<Class<?>> dependencies() {
+        return provider.dependencies();
+    }
+
+    @Override
+    public List<Class<?>> deferredDependencies() {
+        return provider.deferredDependencies();
+    }
+
+    @Override
+    public Provider<Type> compile(final Resolvers resolvers) {
+        return new RecordingProvider<>(type, implementation, provider.compile(resolvers));
+    }
+
+    @Override
+    public Provider<Type> measure(final BindingMetrics metrics) {
+        return new RecordingProvider<>(type, implementation, provider.measure(metrics));
+    }
+
+    private void commit(final InstantiationEvent event) {
+        event.bindingType = type;
+        event.implementation = implementation;
+        event.commit();
+    }
+
+}
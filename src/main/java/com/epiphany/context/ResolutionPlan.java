@@ -0,0 +1,68 @@
+package com.epiphany.context;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+
+final class ResolutionPlan<Type> {
+
+    private final InjectConstructor<Type> constructor;
+    private final InjectFields injectFields;
+    private final InjectMethods injectMethods;
+    private final Resolver[] arguments;
+    private final Resolver[] fields;
+    private final Resolver[][] methods;
+
+    public ResolutionPlan(final InjectConstructor<Type> constructor, final InjectFields injectFields, final InjectMethods injectMethods, final Resolvers resolvers) {
+        this.constructor = constructor;
+        this.injectFields = injectFields;
+        this.injectMethods = injectMethods;
+        this.arguments = constructor.resolvers(resolvers);
+        this.fields = injectFields.resolvers(resolvers);
+        this.methods = injectMethods.resolvers(resolvers);
+    }
+
+    public Type newInstance(final Context context) {
+        Type instance = constructor.newInstance(context, arguments);
+        injectFields.injectInto(context, instance, fields);
+        injectMethods.injectInto(context, instance, methods);
+        return instance;
+    }
+
+    public Type newInstance(final Context context, final BindingMetrics metrics) {
+        Object[] argumentValues = Resolver.resolve(context, arguments);
+        long constructing = System.nanoTime();
+        Type instance = constructor.newInstance(argumentValues);
+        long constructed = System.nanoTime();
+        Object[] fieldValues = Resolver.resolve(context, fields);
+        long injectingFields = System.nanoTime();
+        injectFields.injectInto(instance, fieldValues);
+        long fieldsInjected = System.nanoTime();
+        Object[][] methodValues = Arrays.stream(methods).map(resolvers -> Resolver.resolve(context, resolvers)).toArray(Object[][]::new);
+        long injectingMethods = System.nanoTime();
+        injectMethods.injectInto(instance, methodValues);
+        metrics.created(constructed - constructing, fieldsInjected - injectingFields, System.nanoTime() - injectingMethods);
+        return instance;
+    }
+
+    public CompletableFuture<Type> newInstanceAsync(final Context context, final Executor executor) {
+        CompletableFuture<Object[]> argumentValues = Resolver.resolveAsync(context, arguments, executor);
+        CompletableFuture<Object[]> fieldValues = Resolver.resolveAsync(context, fields, executor);
+        List<CompletableFuture<Object[]>> methodValues = Arrays.stream(methods).map(resolvers -> Resolver.resolveAsync(context, resolvers, executor)).toList();
+        CompletableFuture<?>[] values = Stream.concat(Stream.of(argumentValues, fieldValues), methodValues.stream()).toArray(CompletableFuture<?>[]::new);
+        return CompletableFuture.allOf(values).thenApplyAsync(ignored -> {
+            Type instance = constructor.newInstance(argumentValues.join());
+            injectFields.injectInto(instance, fieldValues.join());
+            injectMethods.injectInto(instance, methodValues.stream().map(CompletableFuture::join).toArray(Object[][]::new));
+            return instance;
+        }, executor);
+    }
+
+    public Optional<Provider<Type>> define(final Provider<Type> provider) {
+        ProviderClass providerClass = constructor.define(arguments);
+        injectFields.define(providerClass, fields);
+        injectMethods.define(providerClass, methods);
+        return providerClass.define(provider);
+    }
+
+}
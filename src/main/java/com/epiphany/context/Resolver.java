@@ -0,0 +1,27 @@
+package com.epiphany.context;
+
+import java.util.Arrays;
+import java.util.concurrent.*;
+
+@FunctionalInterface
+interface Resolver {
+
+    Object resolve(final Context context);
+
+    default CompletableFuture<?> resolveAsync(final Context context, final Executor executor) {
+        return CompletableFuture.supplyAsync(() -> resolve(context), executor);
+    }
+
+    static Object[] resolve(final Context context, final Resolver[] resolvers) {
+        Object[] values = new Object[resolvers.length];
+        for (int i = 0; i < resolvers.length; i++) values[i] = resolvers[i].resolve(context);
+        return values;
+    }
+
+    static CompletableFuture<Object[]> resolveAsync(final Context context, final Resolver[] resolvers, final Executor executor) {
+        CompletableFuture<?>[] values = new CompletableFuture<?>[resolvers.length];
+        for (int i = 0; i < resolvers.length; i++) values[i] = resolvers[i].resolveAsync(context, executor);
+        return CompletableFuture.allOf(values).thenApply(ignored -> Arrays.stream(values).map(CompletableFuture::join).toArray());
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.epiphany.context;
+
+import java.lang.reflect.*;
+
+@FunctionalInterface
+interface Resolvers {
+
+    Resolvers LOOKUP = type -> {
+        if (ProviderTypes.lazy(type)) return context -> LazyProxy.of(ProviderTypes.component(type), context.handle(ProviderTypes.component(type)));
+        if (type instanceof ParameterizedType) return context -> context.get((ParameterizedType) type).get();
+        return context -> context.get((Class<?>) type).get();
+    };
+
+    Resolver of(final java.lang.reflect.Type type);
+
+    default Resolver[] of(final Parameter[] parameters) {
+        return ProviderTypes.points(parameters).map(this::of).toArray(Resolver[]::new);
+    }
+
+}
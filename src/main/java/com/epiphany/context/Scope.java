@@ -0,0 +1,27 @@
+package com.epiphany.context;
+
+import java.lang.reflect.AnnotatedElement;
+
+public enum Scope {
+
+    PROTOTYPE {
+        @Override
+        <Type> Provider<Type> apply(final Provider<Type> provider) {
+            return provider;
+        }
+    },
+
+    SINGLETON {
+        @Override
+        <Type> Provider<Type> apply(final Provider<Type> provider) {
+            return new SingletonProvider<>(provider);
+        }
+    };
+
+    static Scope of(final AnnotatedElement element) {
+        return element.isAnnotationPresent(Singleton.class) ? SINGLETON : PROTOTYPE;
+    }
+
+    abstract <Type> Provider<Type> apply(final Provider<Type> provider);
+
+}
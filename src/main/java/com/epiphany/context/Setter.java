@@ -0,0 +1,8 @@
+package com.epiphany.context;
+
+@FunctionalInterface
+interface Setter {
+
+    void set(final Object target, final Object value);
+
+}
@@ -0,0 +1,109 @@
+package com.epiphany.context;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+
+final class SingletonProvider<Type> implements Provider<Type> {
+
+    private final Provider<Type> provider;
+    private final Lock lock;
+    private Type instance;
+    private volatile boolean constructed;
+    private CompletableFuture<Type> pending;
+
+    public SingletonProvider(final Provider<Type> provider) {
+        this.provider = provider;
+        this.lock = new ReentrantLock();
+    }
+
+    @Override
+    public Type get(final Context context) {
+        if (constructed) return instance;
+        return create(context);
+    }
+
+    private Type create(final Context context) {
+        lock.lock();
+        try {
+            if (!constructed) {
+                instance = provider.get(context);
+                constructed = true;
+            }
+            return instance;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CompletableFuture<Type> getAsync(final Context context, final Executor executor) {
+        if (constructed) return CompletableFuture.completedFuture(instance);
+        CompletableFuture<Type> created = new CompletableFuture<>();
+        CompletableFuture<Type> claimed = claim(created);
+        if (claimed != created) return claimed;
+        try {
+            provider.getAsync(context, executor).whenComplete((value, failure) -> settle(created, value, failure));
+        } catch (Throwable e) {
+            settle(created, null, e);
+        }
+        return created;
+    }
+
+    private CompletableFuture<Type> claim(final CompletableFuture<Type> created) {
+        lock.lock();
+        try {
+            if (constructed) return CompletableFuture.completedFuture(instance);
+            if (pending == null) pending = created;
+            return pending;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void settle(final CompletableFuture<Type> created, final Type value, final Throwable failure) {
+        lock.lock();
+        try {
+            if (failure == null && !constructed) {
+                instance = value;
+                constructed = true;
+            }
+            pending = null;
+        } finally {
+            lock.unlock();
+        }
+        if (failure == null) created.complete(instance);
+        else created.completeExceptionally(failure);
+    }
+
+    @Override
+    public List<Class<?>> dependencies() {
+        return provider.dependencies();
+    }
+
+    @Override
+    public List<Class<?>> deferredDependencies() {
+        return provider.deferredDependencies();
+    }
+
+    @Override
+    public Provider<Type> compile(final Resolvers resolvers) {
+        return new SingletonProvider<>(provider.compile(resolvers));
+    }
+
+    @Override
+    public Provider<Type> fresh() {
+        return new SingletonProvider<>(provider);
+    }
+
+    @Override
+    public Scope scope() {
+        return Scope.SINGLETON;
+    }
+
+    @Override
+    public Provider<Type> measure(final BindingMetrics metrics) {
+        return new SingletonProvider<>(provider.measure(metrics));
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.epiphany.context.exception;
+
+public final class ComponentNotFoundException extends RuntimeException {
+    private final Class<?> component;
+
+    public ComponentNotFoundException(final Class<?> component) {
+        this.component = component;
+    }
+
+    public Class<?> component() {
+        return component;
+    }
+}
@@ -4,15 +4,22 @@ import java.util.*;
 
 public final class CyclicDependenciesFoundException extends RuntimeException {
 
-    private final Set<Class<?>> components;
+    private final List<Set<Class<?>>> cycles;
 
     public CyclicDependenciesFoundException(final Stack<Class<?>> visiting) {
-        components = new LinkedHashSet<>();
-        components.addAll(visiting);
+        this(List.of(new LinkedHashSet<>(visiting)));
+    }
+
+    public CyclicDependenciesFoundException(final List<Set<Class<?>>> cycles) {
+        this.cycles = cycles;
     }
 
     public Set<Class<?>> components() {
-        return components;
+        return cycles.get(0);
+    }
+
+    public List<Set<Class<?>>> cycles() {
+        return cycles;
     }
 
 }
@@ -1,19 +1,27 @@
 package com.epiphany.context.exception;
 
+import java.util.*;
+
 public final class DependencyNotFoundException extends RuntimeException {
-    private final Class<?> dependency;
-    private final Class<?> component;
+    private final Map<Class<?>, Set<Class<?>>> missing;
 
     public DependencyNotFoundException(final Class<?> dependency, final Class<?> component) {
-        this.dependency = dependency;
-        this.component = component;
+        this(Map.of(component, Set.of(dependency)));
+    }
+
+    public DependencyNotFoundException(final Map<Class<?>, Set<Class<?>>> missing) {
+        this.missing = missing;
     }
 
     public Class<?> dependency() {
-        return dependency;
+        return missing.get(component()).iterator().next();
     }
 
     public Class<?> component() {
-        return component;
+        return missing.keySet().iterator().next();
+    }
+
+    public Map<Class<?>, Set<Class<?>>> missing() {
+        return missing;
     }
 }
@@ -2,15 +2,29 @@ package com.epiphany.context;
 
 import com.epiphany.InjectionProvider;
 import com.epiphany.context.exception.*;
+import com.epiphany.context.graph.*;
 import com.epiphany.context.source.*;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.*;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.*;
 
+import java.io.*;
 import java.lang.reflect.ParameterizedType;
+import java.net.*;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import static com.epiphany.general.Exceptions.evaluate;
+import static com.epiphany.general.Exceptions.execute;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -49,6 +63,65 @@ public class ContainerTest {
                 );
             }
 
+            @ParameterizedTest(name = "supporting {0} via {1}")
+            @MethodSource
+            void should_bind_type_to_an_injectable_component_using_invocation(Class<? extends Something> componentType, Invocation invocation) {
+                config = new ContextConfig(invocation);
+                Dependency dependency = new Dependency() {};
+                config.bind(Dependency.class, dependency);
+                config.bind(Something.class, componentType);
+                assertSame(dependency, config.context().get(Something.class).get().dependency());
+            }
+
+            public static Stream<Arguments> should_bind_type_to_an_injectable_component_using_invocation() {
+                return should_bind_type_to_an_injectable_component().flatMap(component -> Stream.of(Invocation.values()).map(invocation -> Arguments.of(component.get()[0], invocation)));
+            }
+
+            @Test
+            void should_require_bound_component() {
+                Component component = new Component() {};
+                config.bind(Component.class, component);
+                assertSame(component, config.context().require(Component.class));
+            }
+
+            @Test
+            void should_throw_exception_if_required_component_not_found() {
+                ComponentNotFoundException exception = assertThrows(ComponentNotFoundException.class, () -> config.context().require(Component.class));
+                assertEquals(Component.class, exception.component());
+            }
+
+            @Test
+            void should_retrieve_component_via_handle() {
+                Dependency dependency = new Dependency() {};
+                config.bind(Dependency.class, dependency);
+                config.bind(Something.class, ConstructorInjection.class);
+                InjectionProvider<Something> handle = config.context().handle(Something.class);
+                assertSame(dependency, handle.get().dependency());
+                assertNotSame(handle.get(), handle.get());
+            }
+
+            @Test
+            void should_return_same_handle_for_same_type() {
+                config.bind(Component.class, SingletonComponent.class);
+                Context context = config.context();
+                assertSame(context.handle(Component.class), context.handle(Component.class));
+                assertSame(context.require(Component.class), context.handle(Component.class).get());
+            }
+
+            @Test
+            void should_retrieve_handle_as_provider() {
+                config.bind(Component.class, new Component() {});
+                Context context = config.context();
+                ParameterizedType type = new TypeLiteral<Provider<Component>>() {}.getType();
+                assertSame(context.handle(Component.class), context.get(type).get());
+            }
+
+            @Test
+            void should_throw_exception_if_handle_component_not_found() {
+                ComponentNotFoundException exception = assertThrows(ComponentNotFoundException.class, () -> config.context().handle(Component.class));
+                assertEquals(Component.class, exception.component());
+            }
+
             @Test
             void should_bind_type_from_class_path() {
                 config.bind(InjectClasses.from(Dependency.class, "com.epiphany.context.source.DependencyWithNestedDependency"));
@@ -58,6 +131,61 @@ public class ContainerTest {
                 assertThat(dependency.get()).isInstanceOf(DependencyWithNestedDependency.class);
             }
 
+            @Test
+            void should_inject_generic_dependency_from_binding_of_raw_type() {
+                List<String> names = List.of("epiphany");
+                config.bind(List.class, names);
+                config.bind(GenericInjectField.class, GenericInjectField.class);
+                assertSame(names, config.context().get(GenericInjectField.class).get().names());
+            }
+
+            @Test
+            void should_inject_only_members_listed_in_component_index() {
+                Dependency dependency = new Dependency() {};
+                config.bind(Dependency.class, dependency);
+                config.bind(IndexedFieldInjection.class, IndexedFieldInjection.class);
+                IndexedFieldInjection component = config.context().get(IndexedFieldInjection.class).get();
+                assertSame(dependency, component.dependency());
+                assertNull(component.unindexed());
+            }
+
+            @Test
+            void should_inject_annotated_members_if_component_index_cannot_be_read() throws Exception {
+                ClassLoader loader = new ClassLoader(getClass().getClassLoader()) {
+                    @Override
+                    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                        if (!name.equals(IndexedFieldInjection.class.getName())) return super.loadClass(name, resolve);
+                        byte[] bytes = evaluate(() -> getParent().getResourceAsStream(name.replace('.', '/') + ".class").readAllBytes()).evaluate();
+                        return defineClass(name, bytes, 0, bytes.length);
+                    }
+
+                    @Override
+                    public InputStream getResourceAsStream(String name) {
+                        return new InputStream() {
+                            @Override
+                            public int read() throws IOException {
+                                throw new IOException();
+                            }
+                        };
+                    }
+                };
+                Dependency dependency = new Dependency() {};
+                config.bind(Dependency.class, dependency);
+                config.bind(Something.class, loader.loadClass(IndexedFieldInjection.class.getName()).asSubclass(Something.class));
+                Something component = config.context().get(Something.class).get();
+                assertSame(dependency, component.dependency());
+                assertSame(dependency, component.getClass().getMethod("unindexed").invoke(component));
+            }
+
+            @Test
+            void should_retrieve_every_bound_component() {
+                List<Class<?>> types = List.of(Component.class, Dependency.class, NestedDependency.class, AnotherDependency.class, Something.class, String.class, Integer.class, Long.class, Double.class);
+                types.forEach(type -> config.bind((Class<Object>) type, new Object()));
+                Context context = config.context();
+                types.forEach(type -> assertTrue(context.get(type).isPresent()));
+                assertFalse(context.get(Object.class).isPresent());
+            }
+
             @Test
             void should_return_empty_when_component_not_found() {
                 Optional<Component> component = config.context().get(Component.class);
@@ -101,6 +229,396 @@ public class ContainerTest {
 
         }
 
+        @Nested
+        class ContextSnapshot {
+
+            @Test
+            void should_reuse_validated_plan_until_new_binding() throws Exception {
+                config.bind(Component.class, ComponentWithDefaultConstructor.class);
+                assertThat(record("com.epiphany.ContextBuild", () -> {
+                    config.context();
+                    config.context();
+                })).hasSize(1);
+                config.bind(Dependency.class, new Dependency() {});
+                assertThat(record("com.epiphany.ContextBuild", () -> config.context())).hasSize(1);
+            }
+
+            @Test
+            void should_create_new_context_on_each_call() {
+                config.bind(Component.class, ComponentWithDefaultConstructor.class);
+                assertNotSame(config.context(), config.context());
+            }
+
+            @Test
+            void should_not_change_existing_context_after_new_binding() {
+                Context context = config.context();
+                config.bind(Component.class, ComponentWithDefaultConstructor.class);
+                assertFalse(context.get(Component.class).isPresent());
+                assertTrue(config.context().get(Component.class).isPresent());
+            }
+
+            @Test
+            void should_not_share_singleton_between_repeated_context_calls() {
+                config.bind(Component.class, SingletonComponent.class);
+                Context context = config.context();
+                assertSame(context.get(Component.class).get(), context.get(Component.class).get());
+                assertNotSame(context.get(Component.class).get(), config.context().get(Component.class).get());
+            }
+
+            @Test
+            void should_check_dependencies_again_after_failed_context_call() {
+                config.bind(Component.class, ComponentWithInjectConstructor.class);
+                assertThrows(DependencyNotFoundException.class, () -> config.context());
+                config.bind(Dependency.class, new Dependency() {});
+                assertDoesNotThrow(() -> config.context());
+            }
+
+            @Test
+            void should_register_bindings_from_multiple_threads() throws Exception {
+                List<Class<?>> types = List.of(Component.class, Dependency.class, NestedDependency.class, AnotherDependency.class, Something.class, String.class, Integer.class, Long.class, Double.class);
+                ExecutorService executor = Executors.newFixedThreadPool(types.size());
+                List<Callable<Object>> tasks = types.stream().map(type -> Executors.callable(() -> config.bind((Class<Object>) type, new Object()))).toList();
+                for (Future<Object> future : executor.invokeAll(tasks)) future.get();
+                executor.shutdown();
+                Context context = config.context();
+                types.forEach(type -> assertTrue(context.get(type).isPresent()));
+            }
+
+            @Test
+            void should_publish_all_bindings_of_component_at_once() throws Exception {
+                List<Class<?>> types = List.of(PausedInjections.class, Dependency.class);
+                CountDownLatch paused = new CountDownLatch(1);
+                CountDownLatch resumed = new CountDownLatch(1);
+                PausedInjections$$Factory.paused = paused;
+                PausedInjections$$Factory.resumed = resumed;
+                config.enableMetrics();
+                ExecutorService executor = Executors.newSingleThreadExecutor();
+                Future<?> binding = executor.submit(() -> config.bind(PausedInjections.class, PausedInjections.class));
+                paused.await();
+                assertTrue(Collections.disjoint(config.context().metrics().keySet(), types));
+                resumed.countDown();
+                binding.get();
+                executor.shutdown();
+                assertTrue(config.context().metrics().keySet().containsAll(types));
+            }
+
+            @Test
+            void should_validate_plan_once_if_contexts_retrieved_concurrently() throws Exception {
+                config.bind(Component.class, SingletonComponent.class);
+                ExecutorService executor = Executors.newFixedThreadPool(8);
+                List<Callable<Context>> tasks = Collections.nCopies(8, () -> config.context());
+                Set<Context> contexts = new HashSet<>();
+                List<RecordedEvent> events = record("com.epiphany.ContextBuild", () -> {
+                    try {
+                        for (Future<Context> future : executor.invokeAll(tasks)) contexts.add(future.get());
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+                executor.shutdown();
+                assertThat(events).hasSize(1);
+                assertEquals(8, contexts.size());
+            }
+
+        }
+
+        @Nested
+        class PersistedPlans {
+
+            private @TempDir Path output;
+
+            @ParameterizedTest(name = "supporting {0}")
+            @EnumSource(value = Shape.class, names = {"HIERARCHY", "INJECTIONS"})
+            void should_restore_plans_of_unchanged_classes(Shape shape) throws Exception {
+                Path plans = output.resolve("plans");
+                shape.generate(50).jar(output.resolve("first.jar")).bind(new ContextConfig(plans)).context();
+                CompiledGraph graph = shape.generate(50).jar(output.resolve("second.jar"));
+                PlanCache cache = PlanCache.load(plans);
+                graph.components().forEach(component -> assertTrue(cache.restore(component, Invocation.REFLECTION).isPresent()));
+                Context context = graph.bind(new ContextConfig(plans)).context();
+                graph.components().forEach(component -> assertTrue(context.get(component).isPresent()));
+            }
+
+            @Test
+            void should_analyze_class_again_if_class_bytes_changed() throws Exception {
+                Path plans = output.resolve("plans");
+                Shape.FAN_OUT.generate(3).jar(output.resolve("first.jar")).bind(new ContextConfig(plans)).context();
+                CompiledGraph graph = Shape.FAN_OUT.generate(4).jar(output.resolve("second.jar"));
+                PlanCache cache = PlanCache.load(plans);
+                assertFalse(cache.restore(graph.root(), Invocation.REFLECTION).isPresent());
+                assertTrue(cache.restore(graph.components().get(0), Invocation.REFLECTION).isPresent());
+                assertTrue(graph.bind(new ContextConfig(plans)).context().get(graph.root()).isPresent());
+            }
+
+            @Test
+            void should_analyze_class_again_if_class_file_changed() throws Exception {
+                Path plans = output.resolve("plans");
+                CompiledGraph graph = Shape.FAN_OUT.generate(3).compile(output.resolve("classes"));
+                graph.bind(new ContextConfig(plans)).context();
+                Path root = output.resolve("classes").resolve(graph.root().getName().replace('.', '/') + ".class");
+                Files.setLastModifiedTime(root, FileTime.fromMillis(Files.getLastModifiedTime(root).toMillis() - 60_000));
+                CompiledGraph reloaded = graph.reload();
+                PlanCache cache = PlanCache.load(plans);
+                assertFalse(cache.restore(reloaded.root(), Invocation.REFLECTION).isPresent());
+                assertTrue(cache.restore(reloaded.components().get(0), Invocation.REFLECTION).isPresent());
+            }
+
+            @Test
+            void should_rewrite_unreadable_plans() throws Exception {
+                Path plans = output.resolve("plans");
+                Files.write(plans, new byte[]{1, 2, 3, 4});
+                config = new ContextConfig(Invocation.METHOD_HANDLE, plans);
+                config.bind(Dependency.class, new Dependency() {});
+                config.bind(Something.class, ConstructorInjection.class);
+                assertTrue(config.context().get(Something.class).isPresent());
+                assertFalse(PlanCache.load(plans).restore(ConstructorInjection.class, Invocation.METHOD_HANDLE).isEmpty());
+            }
+
+            @Test
+            void should_not_rewrite_plans_if_nothing_changed() throws Exception {
+                Path plans = output.resolve("plans");
+                config = new ContextConfig(plans);
+                config.bind(Component.class, ComponentWithDefaultConstructor.class);
+                config.context();
+                FileTime modified = Files.getLastModifiedTime(plans);
+                Files.setLastModifiedTime(plans, FileTime.fromMillis(0));
+                new ContextConfig(plans).context();
+                config.bind(Dependency.class, new Dependency() {});
+                config.context();
+                assertEquals(FileTime.fromMillis(0), Files.getLastModifiedTime(plans));
+            }
+
+            @Test
+            void should_write_plans_before_context_is_returned() {
+                Path plans = output.resolve("plans");
+                config = new ContextConfig(plans);
+                config.bind(Dependency.class, new Dependency() {});
+                config.bind(Something.class, ConstructorInjection.class);
+                config.context();
+                assertTrue(PlanCache.load(plans).restore(ConstructorInjection.class, Invocation.REFLECTION).isPresent());
+            }
+
+            @Test
+            void should_retry_write_of_plans_after_failure() throws Exception {
+                Path plans = output.resolve("missing").resolve("plans");
+                config = new ContextConfig(plans);
+                config.bind(Dependency.class, new Dependency() {});
+                config.bind(Something.class, ConstructorInjection.class);
+                config.context();
+                assertFalse(Files.exists(plans));
+                Files.createDirectories(plans.getParent());
+                config.bind(Component.class, new Component() {});
+                config.context();
+                assertTrue(PlanCache.load(plans).restore(ConstructorInjection.class, Invocation.REFLECTION).isPresent());
+            }
+
+        }
+
+        @Nested
+        class AsynchronousResolution {
+
+            @ParameterizedTest(name = "supporting {0}")
+            @ValueSource(classes = {ConstructorInjection.class, FieldInjection.class, MethodInjection.class})
+            void should_resolve_injectable_component_asynchronously(Class<? extends Something> componentType) throws Exception {
+                Dependency dependency = new Dependency() {};
+                config.bind(Dependency.class, dependency);
+                config.bind(Something.class, componentType);
+                Something something = config.context().getAsync(Something.class).get();
+                assertThat(something).isInstanceOf(componentType);
+                assertSame(dependency, something.dependency());
+            }
+
+            @Test
+            void should_resolve_component_of_injection_method_asynchronously() throws Exception {
+                Component component = new Component() {};
+                config.bind(Component.class, component);
+                config.bind(InjectionsWithDependency.class, InjectionsWithDependency.class);
+                assertNotNull(config.context().getAsync(Dependency.class).get());
+            }
+
+            @Test
+            void should_resolve_injection_points_in_parallel() throws Exception {
+                ExecutorService executor = Executors.newFixedThreadPool(4);
+                config.bind(AnotherDependency.class, AnotherDependencyWithTwoDependencies.class);
+                config.bind(Dependency.class, RendezvousSingletonDependency.class);
+                config.bind(NestedDependency.class, RendezvousNestedDependency.class);
+                AnotherDependency dependency = config.context().getAsync(AnotherDependency.class, executor).get(10, TimeUnit.SECONDS);
+                executor.shutdown();
+                assertThat(dependency).isInstanceOf(AnotherDependencyWithTwoDependencies.class);
+            }
+
+            @Test
+            void should_resolve_same_instance_for_singleton_component() throws Exception {
+                config.bind(Component.class, SingletonComponent.class);
+                Context context = config.context();
+                CompletableFuture<Component> first = context.getAsync(Component.class);
+                CompletableFuture<Component> second = context.getAsync(Component.class);
+                assertSame(first.get(), second.get());
+                assertSame(context.require(Component.class), first.get());
+            }
+
+            @Test
+            void should_fail_if_component_not_found() {
+                ExecutionException exception = assertThrows(ExecutionException.class, () -> config.context().getAsync(Component.class).get());
+                assertThat(exception.getCause()).isInstanceOf(ComponentNotFoundException.class);
+            }
+
+            @Test
+            void should_fail_if_component_construction_throws() {
+                config.bind(Component.class, ComponentWithThrowingConstructor.class);
+                CompletableFuture<Component> component = config.context().getAsync(Component.class);
+                assertThrows(ExecutionException.class, component::get);
+            }
+
+            @Test
+            void should_resolve_asynchronously_on_configured_executor() throws Exception {
+                AtomicInteger tasks = new AtomicInteger();
+                config.executor(task -> {
+                    tasks.incrementAndGet();
+                    task.run();
+                });
+                config.bind(Something.class, ConstructorInjection.class);
+                config.bind(Dependency.class, new Dependency() {});
+                Context context = config.context();
+                context.getAsync(Something.class).get();
+                context.handleAsync(Something.class).get().get();
+                assertEquals(2, tasks.get());
+            }
+
+            @Test
+            void should_count_asynchronous_handle_invocations() throws Exception {
+                config.enableMetrics();
+                config.bind(Dependency.class, new Dependency() {});
+                Context context = config.context();
+                context.handleAsync(Dependency.class).get().get();
+                assertEquals(1, context.metrics().get(Dependency.class).providerInvocations());
+            }
+
+            @Test
+            void should_share_pending_asynchronous_creation_of_singleton() {
+                CompletableFuture<Object> creation = new CompletableFuture<>();
+                SingletonProvider<Object> provider = new SingletonProvider<>(asynchronous(() -> creation, () -> null));
+                CompletableFuture<Object> first = provider.getAsync(null, Runnable::run);
+                assertSame(first, provider.getAsync(null, Runnable::run));
+                Object instance = new Object();
+                creation.complete(instance);
+                assertSame(instance, first.join());
+                assertSame(instance, provider.getAsync(null, Runnable::run).join());
+            }
+
+            @Test
+            void should_keep_singleton_created_while_asynchronous_creation_pending() {
+                CompletableFuture<Object> creation = new CompletableFuture<>();
+                Object instance = new Object();
+                SingletonProvider<Object> provider = new SingletonProvider<>(asynchronous(() -> creation, () -> instance));
+                CompletableFuture<Object> pending = provider.getAsync(null, Runnable::run);
+                assertSame(instance, provider.get(null));
+                creation.complete(new Object());
+                assertSame(instance, pending.join());
+            }
+
+            @Test
+            void should_retry_asynchronous_creation_of_singleton_after_failure() {
+                Iterator<CompletableFuture<Object>> creations = List.of(CompletableFuture.failedFuture(new IllegalStateException()), CompletableFuture.completedFuture(new Object())).iterator();
+                SingletonProvider<Object> provider = new SingletonProvider<>(asynchronous(creations::next, () -> null));
+                CompletionException exception = assertThrows(CompletionException.class, () -> provider.getAsync(null, Runnable::run).join());
+                assertThat(exception.getCause()).isInstanceOf(IllegalStateException.class);
+                assertNotNull(provider.getAsync(null, Runnable::run).join());
+            }
+
+            @Test
+            void should_fail_asynchronous_creation_of_singleton_if_provider_throws() {
+                SingletonProvider<Object> provider = new SingletonProvider<>(asynchronous(() -> {
+                    throw new IllegalStateException();
+                }, () -> null));
+                CompletableFuture<Object> creation = provider.getAsync(null, Runnable::run);
+                CompletionException exception = assertThrows(CompletionException.class, creation::join);
+                assertThat(exception.getCause()).isInstanceOf(IllegalStateException.class);
+                assertNotSame(creation, provider.getAsync(null, Runnable::run));
+            }
+
+            @Test
+            void should_not_start_asynchronous_creation_of_singleton_created_while_claiming() throws Exception {
+                CountDownLatch constructing = new CountDownLatch(1);
+                CountDownLatch constructed = new CountDownLatch(1);
+                Object instance = new Object();
+                SingletonProvider<Object> provider = new SingletonProvider<>(asynchronous(() -> {
+                    throw new AssertionError();
+                }, () -> {
+                    constructing.countDown();
+                    execute(constructed::await).run();
+                    return instance;
+                }));
+                Thread creating = new Thread(() -> provider.get(null));
+                creating.start();
+                constructing.await();
+                FutureTask<CompletableFuture<Object>> claiming = new FutureTask<>(() -> provider.getAsync(null, Runnable::run));
+                Thread waiting = new Thread(claiming);
+                waiting.start();
+                while (waiting.getState() != Thread.State.WAITING) Thread.onSpinWait();
+                constructed.countDown();
+                assertSame(instance, claiming.get().join());
+            }
+
+            @Test
+            void should_inject_cached_asynchronous_handle() throws Exception {
+                Dependency dependency = new Dependency() {};
+                config.bind(Dependency.class, dependency);
+                config.bind(AsyncProviderInjectField.class, AsyncProviderInjectField.class);
+                Context context = config.context();
+                AsyncProviderInjectField component = context.get(AsyncProviderInjectField.class).get();
+                assertSame(context.handleAsync(Dependency.class), component.provider());
+                assertSame(dependency, component.provider().get().get());
+            }
+
+            @Test
+            void should_retrieve_asynchronous_handle_by_parameterized_type() {
+                config.bind(Dependency.class, new Dependency() {});
+                Context context = config.context();
+                ParameterizedType type = (ParameterizedType) AsyncProviderInjectField.class.getDeclaredFields()[0].getGenericType();
+                assertSame(context.handleAsync(Dependency.class), context.get(type).get());
+            }
+
+        }
+
+        @Nested
+        class GeneratedGraph {
+
+            private static final int SIZE = 500;
+
+            private @TempDir Path output;
+
+            @ParameterizedTest(name = "supporting {0}")
+            @EnumSource(value = Shape.class, names = "CYCLE", mode = EnumSource.Mode.EXCLUDE)
+            void should_resolve_every_component_of_generated_graph(Shape shape) throws Exception {
+                CompiledGraph graph = shape.generate(SIZE).compile(output);
+                Context context = graph.bind(config).context();
+                assertTrue(context.get(graph.root()).isPresent());
+                graph.components().forEach(component -> assertTrue(context.get(component).isPresent()));
+            }
+
+            @Test
+            void should_report_cycle_spanning_generated_graph() throws Exception {
+                CompiledGraph graph = Shape.CYCLE.generate(SIZE).compile(output);
+                CyclicDependenciesFoundException exception = assertThrows(CyclicDependenciesFoundException.class, () -> graph.bind(config).context());
+                assertEquals(Set.copyOf(graph.components()), exception.components());
+            }
+
+            @Test
+            void should_report_missing_component_of_generated_graph() throws Exception {
+                CompiledGraph graph = Shape.CHAIN.generate(SIZE).compile(output);
+                graph.components().stream().skip(1).forEach(component -> bind(component));
+                DependencyNotFoundException exception = assertThrows(DependencyNotFoundException.class, () -> config.context());
+                assertEquals(graph.components().get(0), exception.dependency());
+                assertEquals(graph.components().get(1), exception.component());
+            }
+
+            private <Type> void bind(Class<Type> component) {
+                config.bind(component, component);
+            }
+
+        }
+
         @Nested
         class DependencyCheck {
 
@@ -193,6 +711,60 @@ public class ContainerTest {
 
             }
 
+            @Test
+            void should_report_all_missing_dependencies_at_once() {
+                config.bind(Component.class, ComponentWithInjectConstructor.class);
+                config.bind(AnotherDependency.class, AnotherDependencyWithNestedDependency.class);
+                DependencyNotFoundException exception = assertThrows(DependencyNotFoundException.class, () -> config.context());
+                assertEquals(Map.of(Component.class, Set.of(Dependency.class), AnotherDependency.class, Set.of(NestedDependency.class)), exception.missing());
+            }
+
+            @Test
+            void should_report_all_cyclic_dependencies_at_once() {
+                config.bind(Component.class, CyclicComponentInjectConstructor.class);
+                config.bind(Dependency.class, DependencyDependedOnComponent.class);
+                config.bind(AnotherDependency.class, SelfDependentAnotherDependency.class);
+                CyclicDependenciesFoundException exception = assertThrows(CyclicDependenciesFoundException.class, () -> config.context());
+                assertThat(exception.cycles()).containsExactlyInAnyOrder(Set.of(Component.class, Dependency.class), Set.of(AnotherDependency.class));
+            }
+
+            @Test
+            void should_report_cyclic_dependencies_along_with_missing_dependencies() {
+                config.bind(Component.class, ComponentWithInjectConstructor.class);
+                config.bind(AnotherDependency.class, SelfDependentAnotherDependency.class);
+                DependencyNotFoundException exception = assertThrows(DependencyNotFoundException.class, () -> config.context());
+                assertEquals(Dependency.class, exception.dependency());
+                assertThat(exception.getSuppressed()).hasSize(1);
+                assertEquals(Set.of(AnotherDependency.class), ((CyclicDependenciesFoundException) exception.getSuppressed()[0]).components());
+            }
+
+            @Test
+            void should_describe_single_missing_dependency() {
+                DependencyNotFoundException exception = new DependencyNotFoundException(Dependency.class, Component.class);
+                assertEquals(Dependency.class, exception.dependency());
+                assertEquals(Component.class, exception.component());
+                assertEquals(Map.of(Component.class, Set.of(Dependency.class)), exception.missing());
+            }
+
+            @Test
+            void should_describe_single_cycle_of_visited_components() {
+                Stack<Class<?>> visiting = new Stack<>();
+                visiting.push(Component.class);
+                visiting.push(Dependency.class);
+                CyclicDependenciesFoundException exception = new CyclicDependenciesFoundException(visiting);
+                assertEquals(Set.of(Component.class, Dependency.class), exception.components());
+                assertEquals(List.of(Set.of(Component.class, Dependency.class)), exception.cycles());
+            }
+
+            @Test
+            void should_not_throw_if_dependency_is_shared_by_components() {
+                config.bind(Component.class, ComponentWithInjectConstructor.class);
+                config.bind(NestedDependency.class, NestedDependencyOnComponent.class);
+                config.bind(AnotherDependency.class, IndirectCyclicComponentInjectConstructor.class);
+                config.bind(Dependency.class, new Dependency() {});
+                assertDoesNotThrow(() -> config.context());
+            }
+
             @Test
             void should_not_throw_if_dependencies_are_all_distinct() {
                 config.bind(Component.class, ComponentWithInjectConstructor.class);
@@ -221,6 +793,207 @@ public class ContainerTest {
         @Nested
         public class ProviderType {
 
+            @ParameterizedTest(name = "supporting {0}")
+            @ValueSource(classes = {ProviderInjectConstructor.class, ProviderInjectField.class, ProviderInjectMethod.class})
+            void should_inject_cached_handle_of_provider_type(Class<?> componentType) throws Exception {
+                config.bind(Dependency.class, new Dependency() {});
+                bindSelf(componentType);
+                Context context = config.context();
+                InjectionProvider<Dependency> provider = (InjectionProvider<Dependency>) componentType.getMethod("provider").invoke(context.get(componentType).get());
+                assertSame(context.handle(Dependency.class), provider);
+            }
+
+            @Test
+            void should_retrieve_cached_handle_by_parameterized_type() {
+                config.bind(Dependency.class, new Dependency() {});
+                Context context = config.context();
+                ParameterizedType type = (ParameterizedType) ProviderInjectField.class.getDeclaredFields()[0].getGenericType();
+                assertSame(context.handle(Dependency.class), context.get(type).get());
+            }
+
+            @Test
+            void should_not_throw_if_cyclic_dependencies_are_deferred_by_provider() {
+                config.bind(ProviderInjectConstructor.class, ProviderInjectConstructor.class);
+                config.bind(Dependency.class, DependencyDependedOnProviderInjection.class);
+                ProviderInjectConstructor component = config.context().get(ProviderInjectConstructor.class).get();
+                assertTrue(component.provider().get() instanceof DependencyDependedOnProviderInjection);
+            }
+
+            @Test
+            void should_throw_exception_if_provider_dependency_not_found() {
+                config.bind(ProviderInjectConstructor.class, ProviderInjectConstructor.class);
+                DependencyNotFoundException exception = assertThrows(DependencyNotFoundException.class, () -> config.context());
+                assertEquals(Dependency.class, exception.dependency());
+                assertEquals(ProviderInjectConstructor.class, exception.component());
+            }
+
+            private <Type> void bindSelf(final Class<Type> type) {
+                config.bind(type, type);
+            }
+
+        }
+
+        @Nested
+        public class LazyInjection {
+
+            @ParameterizedTest(name = "supporting {0}")
+            @ValueSource(classes = {LazyInjectConstructor.class, LazyInjectField.class, LazyInjectMethod.class})
+            void should_construct_lazy_dependency_on_first_call(Class<?> componentType) throws Exception {
+                Dependency dependency = new Dependency() {};
+                config.enableMetrics();
+                config.bind(Dependency.class, dependency);
+                config.bind(Something.class, ConstructorInjection.class);
+                bindSelf(componentType);
+                Context context = config.context();
+                Something something = (Something) componentType.getMethod("something").invoke(context.get(componentType).get());
+                assertEquals(0, context.metrics().get(Something.class).instances());
+                assertSame(dependency, something.dependency());
+                assertSame(dependency, something.dependency());
+                assertEquals(1, context.metrics().get(Something.class).instances());
+            }
+
+            @Test
+            void should_delegate_to_singleton_instance() {
+                config.bind(Dependency.class, new Dependency() {});
+                config.bind(Something.class, ConstructorInjection.class, Scope.SINGLETON);
+                config.bind(LazyInjectField.class, LazyInjectField.class);
+                Context context = config.context();
+                assertSame(context.require(Something.class).dependency(), context.require(LazyInjectField.class).something().dependency());
+            }
+
+            @Test
+            void should_not_throw_if_cyclic_dependencies_are_deferred_by_lazy_injection() {
+                config.bind(LazyInjectConstructor.class, LazyInjectConstructor.class);
+                config.bind(Something.class, SomethingDependedOnLazyInjection.class);
+                LazyInjectConstructor component = config.context().get(LazyInjectConstructor.class).get();
+                assertNull(component.something().dependency());
+            }
+
+            @Test
+            void should_throw_exception_if_lazy_dependency_not_found() {
+                config.bind(LazyInjectField.class, LazyInjectField.class);
+                DependencyNotFoundException exception = assertThrows(DependencyNotFoundException.class, () -> config.context());
+                assertEquals(Something.class, exception.dependency());
+                assertEquals(LazyInjectField.class, exception.component());
+            }
+
+            @Test
+            void should_throw_exception_if_lazy_dependency_cannot_be_proxied() {
+                assertThrows(IllegalComponentException.class, () -> config.bind(LazyInjectClass.class, LazyInjectClass.class));
+            }
+
+            @Test
+            void should_construct_lazy_class_dependency_on_first_call() throws Exception {
+                Dependency dependency = new Dependency() {};
+                AnotherDependency another = new AnotherDependency() {};
+                config.enableMetrics();
+                config.bind(Dependency.class, dependency);
+                config.bind(AnotherDependency.class, another);
+                bindSelf(LazyComponent.class);
+                bindSelf(LazyInjectComponent.class);
+                Context context = config.context();
+                LazyComponent component = context.require(LazyInjectComponent.class).component();
+                assertEquals(0, context.metrics().get(LazyComponent.class).instances());
+                assertSame(dependency, component.dependency());
+                assertSame(another, component.another());
+                assertEquals(39L, component.sum(1, 2L, 3.5f, 4.5d, (short) 5, (byte) 6, (char) 17, true));
+                assertEquals(1.5d, invoke(component, LazyComponent.class.getDeclaredMethod("half", double.class), 3d));
+                assertEquals(3f, invoke(component, LazyComponent.class.getDeclaredMethod("twice", float.class), 1.5f));
+                assertEquals(1, component.size());
+                assertEquals("LazyComponent", component.description());
+                assertEquals(1, context.metrics().get(LazyComponent.class).instances());
+            }
+
+            @Test
+            void should_propagate_exception_of_lazy_dependency() {
+                config.bind(Something.class, (Something) () -> {
+                    throw new IllegalStateException();
+                });
+                bindSelf(LazyInjectField.class);
+                config.bind(Dependency.class, new Dependency() {});
+                config.bind(AnotherDependency.class, new AnotherDependency() {});
+                bindSelf(LazyComponent.class);
+                bindSelf(LazyInjectComponent.class);
+                Context context = config.context();
+                assertThrows(IllegalStateException.class, () -> context.require(LazyInjectField.class).something().dependency());
+                assertThrows(IllegalStateException.class, () -> context.require(LazyInjectComponent.class).component().fail());
+                Something unavailable = (Something) LazyProxy.of(Something.class, () -> {
+                    throw new IllegalStateException();
+                });
+                assertThrows(IllegalStateException.class, unavailable::dependency);
+            }
+
+            @Test
+            void should_not_construct_lazy_dependency_for_object_methods() {
+                config.enableMetrics();
+                config.bind(Dependency.class, new Dependency() {});
+                config.bind(AnotherDependency.class, new AnotherDependency() {});
+                config.bind(Something.class, ConstructorInjection.class);
+                bindSelf(LazyComponent.class);
+                bindSelf(LazyInjectField.class);
+                bindSelf(LazyInjectComponent.class);
+                Context context = config.context();
+                for (Object proxy : List.of(context.require(LazyInjectField.class).something(), context.require(LazyInjectComponent.class).component())) {
+                    assertTrue(proxy.equals(proxy));
+                    assertFalse(proxy.equals(new Object()));
+                    assertEquals(System.identityHashCode(proxy), proxy.hashCode());
+                    assertThat(proxy.toString()).endsWith("$$Lazy");
+                }
+                assertEquals(0, context.metrics().get(Something.class).instances());
+                assertEquals(0, context.metrics().get(LazyComponent.class).instances());
+            }
+
+            @Test
+            void should_construct_lazy_dependency_once_for_concurrent_calls() throws Exception {
+                CountDownLatch constructing = new CountDownLatch(1);
+                CountDownLatch constructed = new CountDownLatch(1);
+                AtomicInteger instances = new AtomicInteger();
+                Something something = (Something) LazyProxy.of(Something.class, () -> {
+                    instances.incrementAndGet();
+                    constructing.countDown();
+                    execute(constructed::await).run();
+                    return (Something) () -> null;
+                });
+                Thread first = new Thread(something::dependency);
+                first.start();
+                constructing.await();
+                Thread second = new Thread(something::dependency);
+                second.start();
+                while (second.getState() != Thread.State.BLOCKED) Thread.onSpinWait();
+                constructed.countDown();
+                first.join();
+                second.join();
+                assertEquals(1, instances.get());
+            }
+
+            @Test
+            void should_fail_to_proxy_class_of_package_not_open_to_container() {
+                assertThrows(RuntimeException.class, () -> LazyProxy.of(String.class, () -> ""));
+            }
+
+            @Test
+            void should_not_run_lazy_class_constructor_until_first_call() {
+                AtomicInteger instances = new AtomicInteger();
+                Object proxy = LazyProxy.of(LazyComponent.class, () -> {
+                    instances.incrementAndGet();
+                    return new LazyComponent();
+                });
+                assertThat(LazyProxy.of(ComponentWithThrowingConstructor.class, ComponentWithThrowingConstructor::new)).isInstanceOf(ComponentWithThrowingConstructor.class);
+                assertThat(proxy).isInstanceOf(LazyComponent.class);
+                assertEquals(0, instances.get());
+                assertEquals(1, ((LazyComponent) proxy).size());
+                assertEquals(1, instances.get());
+            }
+
+            private static Object invoke(final Object target, final java.lang.reflect.Method method, final Object argument) throws Exception {
+                method.setAccessible(true);
+                return method.invoke(target, argument);
+            }
+
+            private <Type> void bindSelf(final Class<Type> type) {
+                config.bind(type, type);
+            }
+
         }
 
         @Nested
@@ -233,6 +1006,555 @@ public class ContainerTest {
     @Nested
     public class LifecycleManagement {
 
+        @Test
+        void should_return_same_instance_for_singleton_component() {
+            config.bind(Component.class, SingletonComponent.class);
+            Context context = config.context();
+            assertSame(context.get(Component.class).get(), context.get(Component.class).get());
+        }
+
+        @Test
+        void should_return_same_instance_if_bind_as_singleton() {
+            config.bind(Component.class, ComponentWithDefaultConstructor.class, Scope.SINGLETON);
+            Context context = config.context();
+            assertSame(context.get(Component.class).get(), context.get(Component.class).get());
+        }
+
+        @Test
+        void should_return_new_instance_for_prototype_component() {
+            config.bind(Component.class, ComponentWithDefaultConstructor.class);
+            Context context = config.context();
+            assertNotSame(context.get(Component.class).get(), context.get(Component.class).get());
+        }
+
+        @Test
+        void should_return_new_instance_if_singleton_component_bind_as_prototype() {
+            config.bind(Component.class, SingletonComponent.class, Scope.PROTOTYPE);
+            Context context = config.context();
+            assertNotSame(context.get(Component.class).get(), context.get(Component.class).get());
+        }
+
+        @Test
+        void should_not_share_singleton_between_contexts() {
+            ContextConfig another = new ContextConfig();
+            config.bind(Component.class, SingletonComponent.class);
+            another.bind(Component.class, SingletonComponent.class);
+            assertNotSame(config.context().get(Component.class).get(), another.context().get(Component.class).get());
+        }
+
+        @Test
+        void should_return_same_instance_for_singleton_injection_method() {
+            config.bind(SingletonInjections.class, SingletonInjections.class);
+            Context context = config.context();
+            assertSame(context.get(Dependency.class).get(), context.get(Dependency.class).get());
+            assertNotSame(context.get(NestedDependency.class).get(), context.get(NestedDependency.class).get());
+        }
+
+        @Test
+        void should_create_null_singleton_once() {
+            AtomicInteger creations = new AtomicInteger();
+            SingletonProvider<Object> provider = new SingletonProvider<>(context -> {
+                creations.incrementAndGet();
+                return null;
+            });
+            assertNull(provider.get(null));
+            assertNull(provider.get(null));
+            assertNull(provider.getAsync(null, Runnable::run).join());
+            assertEquals(1, creations.get());
+        }
+
+        @Test
+        void should_check_dependencies_of_singleton_component() {
+            config.bind(Component.class, MissingDependencyConstructor.class, Scope.SINGLETON);
+            DependencyNotFoundException exception = assertThrows(DependencyNotFoundException.class, () -> config.context());
+            assertEquals(Dependency.class, exception.dependency());
+        }
+
+        @Test
+        void should_create_singleton_once_if_retrieved_concurrently() throws Exception {
+            config.bind(Component.class, SlowSingletonComponent.class);
+            Context context = config.context();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            List<Callable<Component>> tasks = Collections.nCopies(8, () -> context.get(Component.class).get());
+            Set<Component> components = new HashSet<>();
+            for (Future<Component> future : executor.invokeAll(tasks)) components.add(future.get());
+            executor.shutdown();
+            assertEquals(1, components.size());
+        }
+
+        @Test
+        void should_create_singletons_when_context_is_built_eagerly() {
+            config.enableMetrics();
+            config.eager();
+            config.bind(Component.class, SingletonComponent.class);
+            config.bind(Something.class, ConstructorInjection.class);
+            config.bind(Dependency.class, new Dependency() {});
+            Map<Class<?>, BindingMetrics> metrics = config.context().metrics();
+            assertEquals(1, metrics.get(Component.class).instances());
+            assertEquals(0, metrics.get(Something.class).instances());
+        }
+
+        @Test
+        void should_create_singleton_eagerly_after_all_of_its_dependencies() {
+            config.enableMetrics();
+            config.eager();
+            config.bind(AnotherDependency.class, AnotherDependencyWithTwoDependencies.class, Scope.SINGLETON);
+            config.bind(NestedDependency.class, new NestedDependency() {});
+            config.bind(Dependency.class, new Dependency() {});
+            assertEquals(1, config.context().metrics().get(AnotherDependency.class).instances());
+        }
+
+        @Test
+        void should_build_empty_context_eagerly() {
+            config.eager();
+            assertThat(config.context().metrics()).isEmpty();
+        }
+
+        @Test
+        void should_create_independent_singletons_concurrently() {
+            config.eager();
+            config.bind(Component.class, RendezvousSingletonComponent.class);
+            config.bind(Dependency.class, RendezvousSingletonDependency.class);
+            assertDoesNotThrow(() -> config.context());
+        }
+
+        @Test
+        void should_initialize_every_binding_on_given_executor() {
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            AtomicInteger tasks = new AtomicInteger();
+            config.eager(task -> {
+                tasks.incrementAndGet();
+                executor.execute(task);
+            });
+            config.bind(Something.class, ConstructorInjection.class);
+            config.bind(Dependency.class, DependencyWithInjectConstructor.class);
+            config.bind(String.class, "");
+            config.context();
+            executor.shutdown();
+            assertEquals(3, tasks.get());
+        }
+
+        @Test
+        void should_throw_first_failure_of_eager_initialization() {
+            config.eager();
+            config.bind(Component.class, ComponentWithThrowingConstructor.class, Scope.SINGLETON);
+            assertThrows(RuntimeException.class, () -> config.context());
+            assertThrows(RuntimeException.class, () -> config.context());
+        }
+
+        @Test
+        void should_not_submit_initialization_after_first_failure() {
+            AtomicInteger tasks = new AtomicInteger();
+            config.eager(task -> {
+                tasks.incrementAndGet();
+                task.run();
+            });
+            config.bind(Component.class, ComponentWithThrowingConstructor.class, Scope.SINGLETON);
+            config.bind(ComponentWithThrowingConstructor.class, ComponentWithThrowingConstructor.class, Scope.SINGLETON);
+            assertThrows(RuntimeException.class, () -> config.context());
+            assertEquals(1, tasks.get());
+        }
+
+        @Test
+        void should_cancel_pending_initialization_after_first_failure() throws Exception {
+            List<Runnable> tasks = new CopyOnWriteArrayList<>();
+            CountDownLatch submitted = new CountDownLatch(2);
+            Provider<?>[] providers = {new SingletonProvider<>(context -> {
+                throw new IllegalStateException();
+            }), new InstanceProvider<>("")};
+            Binding[] bindings = Arrays.stream(providers).map(provider -> new Binding(null, provider, Runnable::run)).toArray(Binding[]::new);
+            Initialization initialization = new Initialization(new ClassIndex(List.of(Component.class, String.class)), providers, bindings);
+            CompletableFuture<Void> running = CompletableFuture.runAsync(() -> initialization.run(null, task -> {
+                tasks.add(task);
+                submitted.countDown();
+            }));
+            submitted.await();
+            tasks.get(0).run();
+            CompletionException exception = assertThrows(CompletionException.class, running::join);
+            assertThat(exception.getCause()).isInstanceOf(IllegalStateException.class);
+            assertTrue(((Future<?>) tasks.get(1)).isCancelled());
+        }
+
+        @Test
+        void should_throw_exception_if_executor_rejects_initialization() {
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            executor.shutdown();
+            config.eager(executor);
+            config.bind(Component.class, SingletonComponent.class);
+            assertThrows(RejectedExecutionException.class, () -> config.context());
+        }
+
+    }
+
+    @Nested
+    public class Instrumentation {
+
+        private @TempDir Path output;
+
+        @Test
+        void should_not_expose_metrics_unless_enabled() {
+            config.bind(Component.class, SingletonComponent.class);
+            assertThat(config.context().metrics()).isEmpty();
+        }
+
+        @Test
+        void should_count_instances_created_per_binding() {
+            config.enableMetrics();
+            config.bind(Dependency.class, new Dependency() {});
+            config.bind(Something.class, ConstructorInjection.class);
+            config.bind(Component.class, SingletonComponent.class);
+            Context context = config.context();
+            for (int i = 0; i < 3; i++) {
+                context.get(Something.class);
+                context.get(Component.class);
+                context.get(Dependency.class);
+            }
+            assertEquals(3, context.metrics().get(Something.class).instances());
+            assertEquals(1, context.metrics().get(Component.class).instances());
+            assertEquals(0, context.metrics().get(Dependency.class).instances());
+        }
+
+        @Test
+        void should_count_instances_created_by_injection_method() {
+            config.enableMetrics();
+            config.bind(SingletonInjections.class, SingletonInjections.class);
+            Context context = config.context();
+            context.get(NestedDependency.class);
+            context.get(NestedDependency.class);
+            assertEquals(2, context.metrics().get(NestedDependency.class).instances());
+        }
+
+        @ParameterizedTest
+        @EnumSource(Invocation.class)
+        void should_split_construction_time_by_injection_phase(Invocation invocation) {
+            config = new ContextConfig(invocation);
+            config.enableMetrics();
+            config.bind(Component.class, new Component() {});
+            config.bind(Dependency.class, SlowInjectionDependency.class);
+            Context context = config.context();
+            context.get(Dependency.class);
+            BindingMetrics metrics = context.metrics().get(Dependency.class);
+            assertThat(metrics.constructorTime()).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+            assertThat(metrics.methodInjectionTime()).isGreaterThanOrEqualTo(Duration.ofMillis(10)).isLessThan(metrics.constructorTime());
+            assertThat(metrics.fieldInjectionTime()).isLessThan(metrics.methodInjectionTime());
+            assertEquals(metrics.constructorTime(), metrics.maxConstructorTime());
+            assertEquals(metrics.fieldInjectionTime(), metrics.maxFieldInjectionTime());
+            assertEquals(metrics.methodInjectionTime(), metrics.maxMethodInjectionTime());
+        }
+
+        @Test
+        void should_split_construction_time_of_generated_factory_by_injection_phase() {
+            config.enableMetrics();
+            config.bind(Component.class, new Component() {});
+            config.bind(Dependency.class, SlowGeneratedDependency.class);
+            Context context = config.context();
+            context.get(Dependency.class);
+            BindingMetrics metrics = context.metrics().get(Dependency.class);
+            assertThat(metrics.constructorTime()).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+            assertThat(metrics.methodInjectionTime()).isGreaterThanOrEqualTo(Duration.ofMillis(10)).isLessThan(metrics.constructorTime());
+            assertThat(metrics.fieldInjectionTime()).isLessThan(metrics.methodInjectionTime());
+        }
+
+        @Test
+        void should_measure_hand_written_factory_without_injection_phases() {
+            config.enableMetrics();
+            config.bind(PausedInjections.class, PausedInjections.class);
+            Context context = config.context();
+            assertTrue(context.get(PausedInjections.class).isPresent());
+            assertEquals(1, context.metrics().get(PausedInjections.class).instances());
+        }
+
+        @Test
+        void should_keep_provider_behaviour_when_measured() {
+            Provider<ConstructorInjection> provider = new GeneralInjectionProvider<>(ConstructorInjection.class);
+            Provider<ConstructorInjection> measured = provider.measure(new BindingMetrics());
+            assertEquals(provider.dependencies(), measured.dependencies());
+            assertEquals(provider.deferredDependencies(), measured.deferredDependencies());
+            assertEquals(provider.scope(), measured.scope());
+            config.enableMetrics();
+            config.bind(Something.class, ConstructorInjection.class);
+            config.bind(Dependency.class, new Dependency() {});
+            Context context = config.context();
+            assertNotNull(context.handleAsync(Something.class).get().join());
+        }
+
+        @Test
+        void should_not_include_dependency_construction_in_component_time() {
+            config.enableMetrics();
+            config.bind(Component.class, new Component() {});
+            config.bind(Dependency.class, SlowInjectionDependency.class);
+            config.bind(Something.class, FieldInjection.class);
+            Context context = config.context();
+            context.get(Something.class);
+            assertThat(context.metrics().get(Something.class).fieldInjectionTime()).isLessThan(Duration.ofMillis(10));
+            assertThat(context.metrics().get(Dependency.class).constructorTime()).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+        }
+
+        @Test
+        void should_not_include_dependency_construction_in_injection_method_time() {
+            config.enableMetrics();
+            config.bind(Component.class, SlowSingletonComponent.class);
+            config.bind(InjectionsWithDependency.class, InjectionsWithDependency.class);
+            Context context = config.context();
+            context.get(Dependency.class);
+            assertThat(context.metrics().get(Dependency.class).constructorTime()).isLessThan(Duration.ofMillis(50));
+            assertThat(context.metrics().get(Component.class).constructorTime()).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+        }
+
+        @Test
+        void should_record_instantiation_events_with_nesting_depth() throws Exception {
+            config.bind(Something.class, ConstructorInjection.class);
+            config.bind(Dependency.class, DependencyWithInjectConstructor.class);
+            config.bind(String.class, "");
+            Context context = config.context();
+            List<RecordedEvent> events = record("com.epiphany.Instantiation", () -> context.get(Something.class));
+            assertThat(events).hasSize(2);
+            assertEquals(Dependency.class.getName(), events.get(0).getClass("bindingType").getName());
+            assertEquals(DependencyWithInjectConstructor.class.getName(), events.get(0).getClass("implementation").getName());
+            assertEquals(1, events.get(0).getInt("depth"));
+            assertEquals(Something.class.getName(), events.get(1).getClass("bindingType").getName());
+            assertEquals(ConstructorInjection.class.getName(), events.get(1).getClass("implementation").getName());
+            assertEquals(0, events.get(1).getInt("depth"));
+        }
+
+        @Test
+        void should_record_instantiation_event_of_injection_method() throws Exception {
+            config.bind(SingletonInjections.class, SingletonInjections.class);
+            Context context = config.context();
+            List<RecordedEvent> events = record("com.epiphany.Instantiation", () -> context.get(NestedDependency.class));
+            assertThat(events).hasSize(2);
+            assertEquals(SingletonInjections.class.getName(), events.get(0).getClass("bindingType").getName());
+            assertEquals(1, events.get(0).getInt("depth"));
+            assertEquals(NestedDependency.class.getName(), events.get(1).getClass("bindingType").getName());
+            assertEquals(SingletonInjections.class.getName(), events.get(1).getClass("implementation").getName());
+            assertEquals(0, events.get(1).getInt("depth"));
+        }
+
+        @Test
+        void should_record_instantiation_events_of_asynchronous_resolution() throws Exception {
+            config.bind(Something.class, ConstructorInjection.class);
+            config.bind(Dependency.class, DependencyWithInjectConstructor.class);
+            config.bind(String.class, "");
+            Context context = config.context();
+            List<RecordedEvent> events = record("com.epiphany.Instantiation", () -> context.getAsync(Something.class, Runnable::run).join());
+            assertThat(events).hasSize(2);
+            assertEquals(Dependency.class.getName(), events.get(0).getClass("bindingType").getName());
+            assertEquals(DependencyWithInjectConstructor.class.getName(), events.get(0).getClass("implementation").getName());
+            assertEquals(Something.class.getName(), events.get(1).getClass("bindingType").getName());
+            assertEquals(ConstructorInjection.class.getName(), events.get(1).getClass("implementation").getName());
+        }
+
+        @Test
+        void should_record_instantiation_event_of_failed_component() throws Exception {
+            config.bind(Component.class, ComponentWithThrowingConstructor.class);
+            Context context = config.context();
+            List<RecordedEvent> events = record("com.epiphany.Instantiation", () -> {
+                assertThrows(RuntimeException.class, () -> context.get(Component.class));
+                assertThrows(RuntimeException.class, () -> context.get(Component.class));
+            });
+            assertThat(events).hasSize(2);
+            assertEquals(ComponentWithThrowingConstructor.class.getName(), events.get(0).getClass("implementation").getName());
+            assertEquals(0, events.get(0).getInt("depth"));
+            assertEquals(0, events.get(1).getInt("depth"));
+        }
+
+        @Test
+        void should_record_context_build_event() throws Exception {
+            config.bind(Something.class, ConstructorInjection.class);
+            config.bind(Dependency.class, DependencyWithInjectConstructor.class);
+            config.bind(String.class, "");
+            List<RecordedEvent> events = record("com.epiphany.ContextBuild", () -> config.context());
+            assertThat(events).hasSize(1);
+            assertEquals(3, events.get(0).getInt("bindings"));
+            assertFalse(events.get(0).getDuration("validation").isNegative());
+            assertFalse(events.get(0).getDuration("compilation").isNegative());
+        }
+
+        @Test
+        void should_identify_same_wiring_by_fingerprint() throws Exception {
+            config.bind(Something.class, ConstructorInjection.class);
+            config.bind(Dependency.class, DependencyWithInjectConstructor.class);
+            config.bind(String.class, "");
+            config.context();
+            ContextConfig another = new ContextConfig();
+            another.bind(Something.class, ConstructorInjection.class);
+            another.bind(Dependency.class, DependencyWithInjectConstructor.class);
+            another.bind(String.class, "another");
+            List<RecordedEvent> events = record("com.epiphany.ContextBuild", () -> another.context());
+            assertFalse(events.get(0).getBoolean("trusted"));
+            assertEquals(config.context().graph().fingerprint(), another.context().graph().fingerprint());
+        }
+
+        @Test
+        void should_change_fingerprint_when_binding_changes() {
+            config.bind(Something.class, ConstructorInjection.class);
+            config.bind(Dependency.class, new Dependency() {});
+            String fingerprint = config.context().graph().fingerprint();
+            config.bind(String.class, "");
+            assertNotEquals(fingerprint, config.context().graph().fingerprint());
+        }
+
+        @Test
+        void should_trust_graph_listed_in_manifest() throws Exception {
+            ContextConfig trusted = new ManifestWiring().get();
+            List<RecordedEvent> events = record("com.epiphany.ContextBuild", () -> trusted.context());
+            assertTrue(events.get(0).getBoolean("trusted"));
+        }
+
+        @Test
+        void should_trust_graph_rebound_to_wiring_listed_in_manifest() throws Exception {
+            ContextConfig trusted = new ManifestWiring().get();
+            trusted.bind(Dependency.class, DependencyWithInjectConstructor.class);
+            trusted.bind(String.class, "");
+            assertFalse(record("com.epiphany.ContextBuild", () -> trusted.context()).get(0).getBoolean("trusted"));
+            trusted.bind(Dependency.class, new Dependency() {});
+            assertFalse(record("com.epiphany.ContextBuild", () -> trusted.context()).get(0).getBoolean("trusted"));
+            ContextConfig rebound = new ManifestWiring().get();
+            rebound.bind(Dependency.class, DependencyWithInjectConstructor.class);
+            rebound.bind(Dependency.class, new Dependency() {});
+            assertTrue(record("com.epiphany.ContextBuild", () -> rebound.context()).get(0).getBoolean("trusted"));
+        }
+
+        @Test
+        void should_not_trust_graph_without_manifest() {
+            GraphFingerprint fingerprint = GraphFingerprint.load(new URLClassLoader(new URL[0], null));
+            assertFalse(fingerprint.trusts(HexFormat.fromHexDigitsToLong(new ManifestWiring().get().context().graph().fingerprint())));
+        }
+
+        @Test
+        void should_write_manifest_of_validated_wirings() throws Exception {
+            GraphManifest.main(new String[]{output.toString(), ManifestWiring.class.getName()});
+            GraphManifest.main(new String[]{output.toString(), ManifestWiring.class.getName()});
+            Path manifest = output.resolve("META-INF/epiphany/validated-graphs");
+            assertEquals(List.of(new ManifestWiring().get().context().graph().fingerprint()), Files.readAllLines(manifest));
+        }
+
+        @Test
+        void should_fail_manifest_of_invalid_wiring() {
+            assertThrows(DependencyNotFoundException.class, () -> GraphManifest.main(new String[]{output.toString(), IncompleteManifestWiring.class.getName()}));
+            assertFalse(Files.exists(output.resolve("META-INF/epiphany/validated-graphs")));
+        }
+
+        @Test
+        void should_export_dependency_graph_as_dot() {
+            config.bind(Something.class, ConstructorInjection.class);
+            config.bind(Dependency.class, DependencyWithInjectConstructor.class);
+            config.bind(String.class, "");
+            String dot = config.context().graph().toDot();
+            assertThat(dot).startsWith("digraph epiphany {");
+            assertThat(dot).contains("\"java.lang.String\" [label=\"String\\nSINGLETON\", color=red];");
+            assertThat(dot).contains("\"com.epiphany.context.source.Something\" -> \"com.epiphany.context.source.Dependency\" [color=red, penwidth=2];");
+            assertThat(dot).contains("\"com.epiphany.context.source.Dependency\" -> \"java.lang.String\" [color=red, penwidth=2];");
+        }
+
+        @Test
+        void should_export_provider_dependencies_as_deferred_edges() {
+            config.bind(ProviderInjectConstructor.class, ProviderInjectConstructor.class);
+            config.bind(Dependency.class, new Dependency() {});
+            ComponentGraph graph = config.context().graph();
+            assertThat(graph.toDot()).contains("\"com.epiphany.context.source.ProviderInjectConstructor\" -> \"com.epiphany.context.source.Dependency\" [style=dashed];");
+            assertThat(graph.toJson()).contains("{\"from\":\"com.epiphany.context.source.ProviderInjectConstructor\",\"to\":\"com.epiphany.context.source.Dependency\",\"deferred\":true,\"critical\":false}");
+        }
+
+        @Test
+        void should_export_measured_dependency_graph_as_json() {
+            config.enableMetrics();
+            config.bind(Something.class, ConstructorInjection.class);
+            config.bind(Dependency.class, new Dependency() {});
+            Context context = config.context();
+            context.get(Something.class);
+            context.get(Something.class);
+            String json = context.graph().toJson();
+            assertThat(json).contains("{\"type\":\"com.epiphany.context.source.Something\",\"scope\":\"PROTOTYPE\",\"instances\":2,\"providerInvocations\":0,");
+            assertThat(json).contains("{\"type\":\"com.epiphany.context.source.Dependency\",\"scope\":\"SINGLETON\",\"instances\":0,");
+            assertThat(json).endsWith("\"criticalPath\":[\"com.epiphany.context.source.Something\",\"com.epiphany.context.source.Dependency\"]}");
+        }
+
+        @Test
+        void should_follow_longest_chain_as_critical_path_without_metrics() {
+            bindBranches();
+            assertEquals(List.of(AnotherDependency.class, NestedDependency.class, Component.class), config.context().graph().criticalPath());
+        }
+
+        @Test
+        void should_follow_most_expensive_chain_as_critical_path() {
+            config.enableMetrics();
+            bindBranches();
+            Context context = config.context();
+            context.get(AnotherDependency.class);
+            assertEquals(List.of(AnotherDependency.class, Dependency.class, Component.class), context.graph().criticalPath());
+        }
+
+        @Test
+        void should_export_measured_dependency_graph_with_critical_and_other_edges() {
+            config.enableMetrics();
+            bindBranches();
+            Context context = config.context();
+            context.get(AnotherDependency.class);
+            ComponentGraph graph = context.graph();
+            String dot = graph.toDot();
+            assertThat(dot).contains("[label=\"AnotherDependency\\nPROTOTYPE\\n1 instances\\n");
+            assertThat(dot).contains("\"com.epiphany.context.source.AnotherDependency\" -> \"com.epiphany.context.source.Dependency\" [color=red, penwidth=2];");
+            assertThat(dot).contains("\"com.epiphany.context.source.AnotherDependency\" -> \"com.epiphany.context.source.NestedDependency\";");
+            assertThat(dot).contains("\"com.epiphany.context.source.NestedDependency\" -> \"com.epiphany.context.source.Component\";");
+            assertThat(graph.toJson()).contains("{\"from\":\"com.epiphany.context.source.NestedDependency\",\"to\":\"com.epiphany.context.source.Component\",\"deferred\":false,\"critical\":false}");
+        }
+
+        @Test
+        void should_export_empty_dependency_graph() {
+            config.enableMetrics();
+            ComponentGraph graph = config.context().graph();
+            assertEquals("digraph epiphany {\n}\n", graph.toDot());
+            assertEquals("{\"nodes\":[],\"edges\":[],\"criticalPath\":[]}", graph.toJson());
+            assertEquals(List.of(), graph.criticalPath());
+        }
+
+        private void bindBranches() {
+            config.bind(AnotherDependency.class, AnotherDependencyWithTwoDependencies.class);
+            config.bind(NestedDependency.class, NestedDependencyOnComponent.class);
+            config.bind(Dependency.class, SlowInjectionDependency.class);
+            config.bind(Component.class, ComponentWithDefaultConstructor.class);
+        }
+
+        @Test
+        void should_count_provider_invocations() {
+            config.enableMetrics();
+            config.bind(Dependency.class, new Dependency() {});
+            config.bind(Component.class, SingletonComponent.class);
+            Context context = config.context();
+            InjectionProvider<Component> provider = context.handle(Component.class);
+            provider.get();
+            provider.get();
+            assertEquals(2, context.metrics().get(Component.class).providerInvocations());
+            assertEquals(1, context.metrics().get(Component.class).instances());
+        }
+
+    }
+
+    private static <Type> Provider<Type> asynchronous(Supplier<CompletableFuture<Type>> creation, Supplier<Type> instance) {
+        return new Provider<>() {
+            @Override
+            public Type get(Context context) {
+                return instance.get();
+            }
+
+            @Override
+            public CompletableFuture<Type> getAsync(Context context, Executor executor) {
+                return creation.get();
+            }
+        };
+    }
+
+    private static List<RecordedEvent> record(String event, Runnable action) throws Exception {
+        try (Recording recording = new Recording()) {
+            recording.enable(event);
+            recording.start();
+            action.run();
+            recording.stop();
+            Path file = Files.createTempFile("epiphany", ".jfr");
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        }
     }
 
 }
@@ -4,16 +4,20 @@ import com.epiphany.InjectionProvider;
 import com.epiphany.context.exception.IllegalComponentException;
 import com.epiphany.context.source.*;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
-import java.lang.reflect.ParameterizedType;
+import java.io.IOException;
+import java.lang.reflect.*;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @SuppressWarnings("all")
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -56,6 +60,36 @@ public class InjectionTest {
                 assertThat(provider.dependencies()).containsExactly(Dependency.class);
             }
 
+            @Test
+            void should_inject_dependency_via_compiled_resolvers_without_context_lookup() {
+                Provider<com.epiphany.context.source.ConstructorInjection> provider = new GeneralInjectionProvider<>(com.epiphany.context.source.ConstructorInjection.class).compile(type -> c -> dependency);
+                assertSame(dependency, provider.get(context).dependency());
+                verify(context, never()).get(Dependency.class);
+            }
+
+            @ParameterizedTest
+            @EnumSource(Invocation.class)
+            void should_inject_dependency_via_inject_constructor_using_invocation(Invocation invocation) {
+                com.epiphany.context.source.ConstructorInjection instance = new GeneralInjectionProvider<>(com.epiphany.context.source.ConstructorInjection.class, invocation).get(context);
+                assertSame(dependency, instance.dependency());
+            }
+
+            @ParameterizedTest
+            @EnumSource(Invocation.class)
+            void should_throw_if_inject_constructor_throws_using_invocation(Invocation invocation) {
+                GeneralInjectionProvider<ComponentWithThrowingConstructor> provider = new GeneralInjectionProvider<>(ComponentWithThrowingConstructor.class, invocation);
+                RuntimeException exception = assertThrows(RuntimeException.class, () -> provider.get(context));
+                assertThat(exception.getCause()).isInstanceOf(InvocationTargetException.class).hasCauseInstanceOf(IllegalStateException.class);
+            }
+
+            @ParameterizedTest
+            @EnumSource(Invocation.class)
+            void should_throw_if_inject_constructor_throws_checked_exception_using_invocation(Invocation invocation) {
+                GeneralInjectionProvider<ComponentWithCheckedExceptionConstructor> provider = new GeneralInjectionProvider<>(ComponentWithCheckedExceptionConstructor.class, invocation);
+                RuntimeException exception = assertThrows(RuntimeException.class, () -> provider.get(context));
+                assertThat(exception.getCause()).isInstanceOf(InvocationTargetException.class).hasCauseInstanceOf(IOException.class);
+            }
+
             @Test
             void should_inject_provider_via_inject_constructor() {
                 ProviderInjectConstructor instance = (new GeneralInjectionProvider<>(ProviderInjectConstructor.class)).get(context);
@@ -63,6 +97,13 @@ public class InjectionTest {
                 assertSame(dependencyProvider, instance.provider());
             }
 
+            @Test
+            void should_include_provider_type_as_deferred_dependency_of_inject_constructor() {
+                GeneralInjectionProvider<ProviderInjectConstructor> provider = new GeneralInjectionProvider<>(ProviderInjectConstructor.class);
+                assertThat(provider.dependencies()).isEmpty();
+                assertThat(provider.deferredDependencies()).containsExactly(Dependency.class);
+            }
+
         }
 
         @Nested
@@ -116,6 +157,34 @@ public class InjectionTest {
                 assertThat(provider.dependencies()).containsExactly(Dependency.class);
             }
 
+            @Test
+            void should_inject_field_via_compiled_resolvers_without_context_lookup() {
+                Provider<ComponentWithFieldInjection> provider = new GeneralInjectionProvider<>(ComponentWithFieldInjection.class).compile(type -> c -> dependency);
+                assertSame(dependency, provider.get(context).dependency());
+                verify(context, never()).get(Dependency.class);
+            }
+
+            @ParameterizedTest
+            @EnumSource(Invocation.class)
+            void should_inject_dependency_via_field_using_invocation(Invocation invocation) {
+                ComponentWithFieldInjection component = new GeneralInjectionProvider<>(SubclassWithComponentWithFieldInjection.class, invocation).get(context);
+                assertSame(dependency, component.dependency());
+            }
+
+            @ParameterizedTest
+            @EnumSource(Invocation.class)
+            void should_inject_static_field_using_invocation(Invocation invocation) {
+                new GeneralInjectionProvider<>(StaticInjectField.class, invocation).get(context);
+                assertSame(dependency, StaticInjectField.dependency());
+            }
+
+            @ParameterizedTest
+            @EnumSource(Invocation.class)
+            void should_throw_if_field_dependency_is_not_assignable_using_invocation(Invocation invocation) {
+                Provider<ComponentWithFieldInjection> provider = new GeneralInjectionProvider<>(ComponentWithFieldInjection.class, invocation).compile(type -> c -> componentInstance);
+                assertThrows(RuntimeException.class, () -> provider.get(context));
+            }
+
             @Test
             void should_inject_provider_via_inject_field() {
                 ProviderInjectField instance = (new GeneralInjectionProvider<>(ProviderInjectField.class)).get(context);
@@ -123,6 +192,31 @@ public class InjectionTest {
                 assertSame(dependencyProvider, instance.provider());
             }
 
+            @Test
+            void should_include_provider_type_as_deferred_dependency_of_inject_field() {
+                GeneralInjectionProvider<ProviderInjectField> provider = new GeneralInjectionProvider<>(ProviderInjectField.class);
+                assertThat(provider.dependencies()).isEmpty();
+                assertThat(provider.deferredDependencies()).containsExactly(Dependency.class);
+            }
+
+            @Test
+            void should_include_lazy_type_as_deferred_dependency_of_inject_field() {
+                GeneralInjectionProvider<LazyInjectField> provider = new GeneralInjectionProvider<>(LazyInjectField.class);
+                assertThat(provider.dependencies()).isEmpty();
+                assertThat(provider.deferredDependencies()).containsExactly(Something.class);
+            }
+
+            @Test
+            void should_include_raw_lazy_type_as_deferred_dependency_of_inject_field() {
+                GeneralInjectionProvider<LazyInjectGenericField> provider = new GeneralInjectionProvider<>(LazyInjectGenericField.class);
+                assertThat(provider.deferredDependencies()).containsExactly(java.util.Comparator.class);
+            }
+
+            @Test
+            void should_not_have_owner_type_of_lazy_type() {
+                assertNull(new ProviderTypes.LazyType(Something.class).getOwnerType());
+            }
+
         }
 
         @Nested
@@ -133,6 +227,24 @@ public class InjectionTest {
                 assertThrows(IllegalComponentException.class, () -> new GeneralInjectionProvider<>(FinalInjectField.class));
             }
 
+            @Test
+            void should_throw_exception_if_lazy_field_cannot_be_proxied() {
+                assertThrows(IllegalComponentException.class, () -> new GeneralInjectionProvider<>(LazyInjectClass.class));
+            }
+
+            @ParameterizedTest(name = "rejecting {0}")
+            @ValueSource(classes = {int.class, Object[].class, String.class, SealedLazyComponent.class, java.util.ArrayList.class,
+                FinalMethodLazyComponent.class, ProtectedMethodLazyComponent.class})
+            void should_not_proxy_lazy_class_that_cannot_be_subclassed(Class<?> type) {
+                assertFalse(LazyClass.supports(type));
+            }
+
+            @ParameterizedTest(name = "proxying {0}")
+            @ValueSource(classes = {ConstructorInjection.class, PrivateConstructorLazyComponent.class})
+            void should_proxy_lazy_class_without_accessible_default_constructor(Class<?> type) {
+                assertTrue(LazyClass.supports(type));
+            }
+
         }
 
     }
@@ -186,6 +298,36 @@ public class InjectionTest {
                 assertNull(component.dependency());
             }
 
+            @Test
+            void should_inject_method_via_compiled_resolvers_without_context_lookup() {
+                Provider<MethodInjectionWithDependency> provider = new GeneralInjectionProvider<>(MethodInjectionWithDependency.class).compile(type -> c -> dependency);
+                assertSame(dependency, provider.get(context).dependency());
+                verify(context, never()).get(Dependency.class);
+            }
+
+            @ParameterizedTest
+            @EnumSource(Invocation.class)
+            void should_inject_subclass_dependency_and_superclass_dependency_using_invocation(Invocation invocation) {
+                SubClassWithInjectMethod component = new GeneralInjectionProvider<>(SubClassWithInjectMethod.class, invocation).get(context);
+                assertSame(componentInstance, component.component());
+                assertSame(dependency, component.dependency());
+            }
+
+            @ParameterizedTest
+            @EnumSource(Invocation.class)
+            void should_throw_if_inject_method_throws_using_invocation(Invocation invocation) {
+                GeneralInjectionProvider<MethodInjectionWithException> provider = new GeneralInjectionProvider<>(MethodInjectionWithException.class, invocation);
+                RuntimeException exception = assertThrows(RuntimeException.class, () -> provider.get(context));
+                assertThat(exception.getCause()).isInstanceOf(InvocationTargetException.class).hasCauseInstanceOf(IllegalStateException.class);
+            }
+
+            @ParameterizedTest
+            @EnumSource(Invocation.class)
+            void should_inject_static_method_using_invocation(Invocation invocation) {
+                new GeneralInjectionProvider<>(StaticInjectMethod.class, invocation).get(context);
+                assertSame(dependency, StaticInjectMethod.dependency());
+            }
+
             @Test
             void should_inject_provider_via_inject_method() {
                 ProviderInjectMethod instance = (new GeneralInjectionProvider<>(ProviderInjectMethod.class)).get(context);
@@ -193,6 +335,13 @@ public class InjectionTest {
                 assertSame(dependencyProvider, instance.provider());
             }
 
+            @Test
+            void should_include_provider_type_as_deferred_dependency_of_inject_method() {
+                GeneralInjectionProvider<ProviderInjectMethod> provider = new GeneralInjectionProvider<>(ProviderInjectMethod.class);
+                assertThat(provider.dependencies()).isEmpty();
+                assertThat(provider.deferredDependencies()).containsExactly(Dependency.class);
+            }
+
         }
 
         @Nested
@@ -251,6 +400,180 @@ public class InjectionTest {
             assertSame(dependency, component);
         }
 
+        @ParameterizedTest
+        @EnumSource(Invocation.class)
+        void should_register_component_using_injections_and_invocation(Invocation invocation) throws NoSuchMethodException {
+            Dependency component = new ExplicitInjectionProvider<InjectionsWithDependency, Dependency>(InjectionsWithDependency.class, InjectionsWithDependency.class.getDeclaredMethod("dependency", Component.class), invocation).get(context);
+            assertSame(dependency, component);
+        }
+
+        @ParameterizedTest
+        @EnumSource(Invocation.class)
+        void should_register_component_using_static_injection_and_invocation(Invocation invocation) throws NoSuchMethodException {
+            Dependency component = new ExplicitInjectionProvider<StaticInjections, Dependency>(StaticInjections.class, StaticInjections.class.getDeclaredMethod("dependency", Dependency.class), invocation)
+                .compile(type -> c -> type == StaticInjections.class ? null : dependency).get(context);
+            assertSame(dependency, component);
+        }
+
+        @Test
+        void should_register_component_using_compiled_resolvers_without_context_lookup() throws NoSuchMethodException {
+            Provider<Dependency> provider = new ExplicitInjectionProvider<InjectionsWithDependency, Dependency>(InjectionsWithDependency.class, InjectionsWithDependency.class.getDeclaredMethod("dependency", Component.class))
+                .compile(type -> c -> type == InjectionsWithDependency.class ? injectionsWithDependency : componentInstance);
+            assertSame(dependency, provider.get(context));
+            verify(context, never()).get(InjectionsWithDependency.class);
+        }
+
+    }
+
+    @Nested
+    public class HiddenClassGeneration {
+
+        private final Resolvers resolvers = type -> c -> type == int.class ? 1 : type == Component.class ? componentInstance : dependency;
+
+        @ParameterizedTest
+        @ValueSource(classes = {com.epiphany.context.source.ConstructorInjection.class, com.epiphany.context.source.FieldInjection.class, com.epiphany.context.source.MethodInjection.class})
+        void should_generate_provider_for_component(Class<? extends Something> component) {
+            Provider<? extends Something> provider = new GeneralInjectionProvider<>(component, Invocation.HIDDEN_CLASS).compile(resolvers);
+            assertThat(provider).isInstanceOf(GeneratedProvider.class);
+            assertSame(dependency, provider.get(context).dependency());
+            verify(context, never()).get(Dependency.class);
+        }
+
+        @Test
+        void should_include_dependencies_of_component_in_generated_provider() {
+            Provider<ComponentWithInjectConstructor> provider = new GeneralInjectionProvider<>(ComponentWithInjectConstructor.class, Invocation.HIDDEN_CLASS).compile(resolvers);
+            assertThat(provider.dependencies()).containsExactly(Dependency.class);
+        }
+
+        @Test
+        void should_inject_subclass_dependency_and_superclass_dependency_via_generated_provider() {
+            Provider<SubClassWithInjectMethod> provider = new GeneralInjectionProvider<>(SubClassWithInjectMethod.class, Invocation.HIDDEN_CLASS).compile(resolvers);
+            assertThat(provider).isInstanceOf(GeneratedProvider.class);
+            SubClassWithInjectMethod component = provider.get(context);
+            assertSame(componentInstance, component.component());
+            assertSame(dependency, component.dependency());
+        }
+
+        @Test
+        void should_discard_values_returned_from_inject_methods_via_generated_provider() {
+            Provider<MethodInjectionWithReturnValue> provider = new GeneralInjectionProvider<>(MethodInjectionWithReturnValue.class, Invocation.HIDDEN_CLASS).compile(resolvers);
+            assertThat(provider).isInstanceOf(GeneratedProvider.class);
+            MethodInjectionWithReturnValue component = provider.get(context);
+            assertSame(dependency, component.dependency());
+            assertEquals(1, component.called());
+        }
+
+        @Test
+        void should_inject_static_members_via_generated_provider() {
+            Provider<StaticInjectField> field = new GeneralInjectionProvider<>(StaticInjectField.class, Invocation.HIDDEN_CLASS).compile(resolvers);
+            Provider<StaticInjectMethod> method = new GeneralInjectionProvider<>(StaticInjectMethod.class, Invocation.HIDDEN_CLASS).compile(resolvers);
+            assertThat(field).isInstanceOf(GeneratedProvider.class);
+            assertThat(method).isInstanceOf(GeneratedProvider.class);
+            field.get(context);
+            method.get(context);
+            assertSame(dependency, StaticInjectField.dependency());
+            assertSame(dependency, StaticInjectMethod.dependency());
+        }
+
+        @ParameterizedTest
+        @ValueSource(classes = {ComponentWithThrowingConstructor.class, MethodInjectionWithException.class})
+        void should_wrap_exception_thrown_by_component_via_generated_provider(Class<?> component) {
+            Provider<?> provider = new GeneralInjectionProvider<>(component, Invocation.HIDDEN_CLASS).compile(resolvers);
+            assertThat(provider).isInstanceOf(GeneratedProvider.class);
+            RuntimeException exception = assertThrows(RuntimeException.class, () -> provider.get(context));
+            assertThat(exception.getCause()).isInstanceOf(InvocationTargetException.class).hasCauseInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        void should_wrap_checked_exception_thrown_by_constructor_via_generated_provider() {
+            Provider<ComponentWithCheckedExceptionConstructor> provider = new GeneralInjectionProvider<>(ComponentWithCheckedExceptionConstructor.class, Invocation.HIDDEN_CLASS).compile(resolvers);
+            assertThat(provider).isInstanceOf(GeneratedProvider.class);
+            RuntimeException exception = assertThrows(RuntimeException.class, () -> provider.get(context));
+            assertThat(exception.getCause()).isInstanceOf(InvocationTargetException.class).hasCauseInstanceOf(IOException.class);
+        }
+
+        @Test
+        void should_not_wrap_exception_thrown_by_resolver_via_generated_provider() {
+            IllegalStateException failure = new IllegalStateException();
+            Provider<com.epiphany.context.source.ConstructorInjection> provider = new GeneralInjectionProvider<>(com.epiphany.context.source.ConstructorInjection.class, Invocation.HIDDEN_CLASS).compile(type -> c -> {
+                throw failure;
+            });
+            assertSame(failure, assertThrows(IllegalStateException.class, () -> provider.get(context)));
+        }
+
+        @Test
+        void should_delegate_async_creation_and_deferred_dependencies_of_generated_provider() {
+            Provider<ProviderInjectConstructor> provider = new GeneralInjectionProvider<>(ProviderInjectConstructor.class, Invocation.HIDDEN_CLASS).compile(type -> c -> dependencyProvider);
+            assertThat(provider).isInstanceOf(GeneratedProvider.class);
+            assertThat(provider.deferredDependencies()).containsExactly(Dependency.class);
+            assertSame(dependencyProvider, provider.getAsync(context, Runnable::run).join().provider());
+        }
+
+        @Test
+        void should_write_modified_utf8_constants() throws IOException {
+            String value = "a\u0000\u00e9\u4f9d";
+            java.io.ByteArrayOutputStream expected = new java.io.ByteArrayOutputStream();
+            new java.io.DataOutputStream(expected).writeUTF(value);
+            assertThat(new ClassBytes().utf8(value).toByteArray()).containsExactly(expected.toByteArray());
+        }
+
+        @Test
+        void should_inject_public_member_of_superclass_in_another_package_via_generated_provider() {
+            Provider<PublicInjectionSubClass> provider = new GeneralInjectionProvider<>(PublicInjectionSubClass.class, Invocation.HIDDEN_CLASS).compile(resolvers);
+            assertThat(provider).isInstanceOf(GeneratedProvider.class);
+            assertSame(dependency, provider.get(context).dependency());
+        }
+
+        @ParameterizedTest
+        @ValueSource(classes = {SubclassWithComponentWithFieldInjection.class, ProtectedInjectionSubClass.class})
+        void should_fall_back_to_method_handles_if_member_is_not_accessible_from_component(Class<?> component) {
+            Provider<?> provider = new GeneralInjectionProvider<>(component, Invocation.HIDDEN_CLASS).compile(resolvers);
+            assertThat(provider).isNotInstanceOf(GeneratedProvider.class);
+            assertNotNull(provider.get(context));
+        }
+
+        @Test
+        void should_inject_package_private_member_and_type_of_superclass_in_same_package_via_generated_provider() {
+            Provider<PackagePrivateInjectionSubClass> provider = new GeneralInjectionProvider<>(PackagePrivateInjectionSubClass.class, Invocation.HIDDEN_CLASS).compile(type -> c -> type == Dependency.class ? dependency : null);
+            assertThat(provider).isInstanceOf(GeneratedProvider.class);
+            assertSame(dependency, provider.get(context).dependency());
+        }
+
+        @Test
+        void should_fall_back_to_method_handles_if_injection_point_type_is_not_visible_from_component() {
+            Provider<HiddenTypeInjectionSubClass> provider = new GeneralInjectionProvider<>(HiddenTypeInjectionSubClass.class, Invocation.HIDDEN_CLASS).compile(type -> c -> null);
+            assertThat(provider).isNotInstanceOf(GeneratedProvider.class);
+            assertNotNull(provider.get(context));
+        }
+
+        @Test
+        void should_fall_back_to_method_handles_if_injection_point_is_primitive() {
+            Provider<MethodInjectionWithPrimitive> provider = new GeneralInjectionProvider<>(MethodInjectionWithPrimitive.class, Invocation.HIDDEN_CLASS).compile(resolvers);
+            assertThat(provider).isNotInstanceOf(GeneratedProvider.class);
+            assertEquals(1, provider.get(context).value());
+        }
+
+    }
+
+    @Nested
+    public class MetadataCache {
+
+        @Test
+        void should_reuse_metadata_of_same_component() {
+            assertSame(ComponentMetadata.of(ComponentWithFieldInjection.class, Invocation.REFLECTION), ComponentMetadata.of(ComponentWithFieldInjection.class, Invocation.REFLECTION));
+        }
+
+        @Test
+        void should_analyze_component_separately_for_each_invocation() {
+            assertNotSame(ComponentMetadata.of(ComponentWithFieldInjection.class, Invocation.REFLECTION), ComponentMetadata.of(ComponentWithFieldInjection.class, Invocation.METHOD_HANDLE));
+        }
+
+        @Test
+        void should_not_cache_illegal_component() {
+            assertThrows(IllegalComponentException.class, () -> ComponentMetadata.of(FinalInjectField.class, Invocation.REFLECTION));
+            assertThrows(IllegalComponentException.class, () -> ComponentMetadata.of(FinalInjectField.class, Invocation.REFLECTION));
+        }
+
     }
 
 }
@@ -0,0 +1,45 @@
+package com.epiphany.context.graph;
+
+import com.epiphany.context.ContextConfig;
+
+import java.net.*;
+import java.util.*;
+
+public class CompiledGraph {
+
+    private final URL output;
+    private final List<String> names;
+    private final List<Class<?>> components;
+    private final Class<?> root;
+
+    CompiledGraph(final URL output, final List<String> names, final String root) throws ClassNotFoundException {
+        ClassLoader loader = new URLClassLoader(new URL[]{output}, CompiledGraph.class.getClassLoader());
+        this.output = output;
+        this.names = names;
+        this.components = new ArrayList<>();
+        for (String name : names) components.add(loader.loadClass(name));
+        this.root = loader.loadClass(root);
+    }
+
+    public CompiledGraph reload() throws ClassNotFoundException {
+        return new CompiledGraph(output, names, root.getName());
+    }
+
+    public List<Class<?>> components() {
+        return components;
+    }
+
+    public Class<?> root() {
+        return root;
+    }
+
+    public ContextConfig bind(final ContextConfig config) {
+        components.forEach(component -> bind(config, component));
+        return config;
+    }
+
+    private static <Type> void bind(final ContextConfig config, final Class<Type> component) {
+        config.bind(component, component);
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.epiphany.context.graph;
+
+import javax.tools.*;
+import java.io.*;
+import java.net.URI;
+import java.nio.file.*;
+import java.util.*;
+import java.util.jar.*;
+import java.util.stream.Stream;
+
+public class Graph {
+
+    private final String packageName;
+    private final Map<String, String> sources;
+    private final List<String> bindings;
+    private String root;
+
+    Graph(final String packageName) {
+        this.packageName = packageName;
+        this.sources = new LinkedHashMap<>();
+        this.bindings = new ArrayList<>();
+    }
+
+    Graph type(final String name, final String declaration) {
+        sources.put(name, "package " + packageName + ";\nimport com.epiphany.context.*;\n" + declaration);
+        return this;
+    }
+
+    Graph component(final String name, final String declaration) {
+        bindings.add(name);
+        root = name;
+        return type(name, declaration);
+    }
+
+    Graph module(final String name, final String declaration) {
+        bindings.add(name);
+        return type(name, declaration);
+    }
+
+    Graph root(final String name) {
+        root = name;
+        return this;
+    }
+
+    public int size() {
+        return bindings.size();
+    }
+
+    public CompiledGraph compile(final Path output) throws Exception {
+        javac(output);
+        return new CompiledGraph(output.toUri().toURL(), bindings.stream().map(this::qualified).toList(), qualified(root));
+    }
+
+    public CompiledGraph jar(final Path jar) throws Exception {
+        Path classes = Files.createDirectories(jar.resolveSibling(jar.getFileName() + ".classes"));
+        javac(classes);
+        try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar)); Stream<Path> files = Files.walk(classes)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                output.putNextEntry(new JarEntry(classes.relativize(file).toString().replace(File.separatorChar, '/')));
+                output.write(Files.readAllBytes(file));
+                output.closeEntry();
+            }
+        }
+        return new CompiledGraph(jar.toUri().toURL(), bindings.stream().map(this::qualified).toList(), qualified(root));
+    }
+
+    private void javac(final Path output) {
+        List<String> options = List.of("-d", output.toString(), "-classpath", System.getProperty("java.class.path"));
+        StringWriter diagnostics = new StringWriter();
+        if (!ToolProvider.getSystemJavaCompiler().getTask(diagnostics, null, null, options, null, sources()).call())
+            throw new IllegalStateException("Failed to compile generated graph: " + diagnostics);
+    }
+
+    private List<JavaFileObject> sources() {
+        return sources.entrySet().stream().map(entry -> source(qualified(entry.getKey()), entry.getValue())).toList();
+    }
+
+    private String qualified(final String name) {
+        return packageName + "." + name;
+    }
+
+    private static JavaFileObject source(final String name, final String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + name.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+
+}
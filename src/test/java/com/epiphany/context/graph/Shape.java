@@ -0,0 +1,94 @@
+package com.epiphany.context.graph;
+
+import java.util.function.IntFunction;
+import java.util.stream.*;
+
+public enum Shape {
+
+    CHAIN {
+        @Override
+        public Graph generate(final int size) {
+            Graph graph = new Graph("generated.chain");
+            for (int i = 0; i < size; i++)
+                graph.component("Component" + i, "public class Component" + i + " { public @Inject Component" + i + "(" + (i == 0 ? "" : "Component" + (i - 1) + " previous") + ") {} }");
+            return graph;
+        }
+    },
+
+    DIAMOND {
+        @Override
+        public Graph generate(final int size) {
+            int width = Math.max(1, (size - 2) / 2);
+            Graph graph = new Graph("generated.diamond").component("Bottom", "public @Singleton class Bottom {}");
+            for (int i = 0; i < width; i++) {
+                graph.component("Left" + i, "public class Left" + i + " { public @Inject Left" + i + "(Bottom bottom) {} }");
+                graph.component("Right" + i, "public class Right" + i + " { public @Inject Right" + i + "(Bottom bottom) {} }");
+            }
+            return graph.component("Top", "public class Top { " + range(width, i -> "@Inject Left" + i + " left" + i + "; @Inject Right" + i + " right" + i + ";", " ") + " }");
+        }
+    },
+
+    FAN_OUT {
+        @Override
+        public Graph generate(final int size) {
+            Graph graph = new Graph("generated.fanout");
+            for (int i = 0; i < size - 1; i++) graph.component("Leaf" + i, "public class Leaf" + i + " {}");
+            return graph.component("Root", "public class Root { " + range(size - 1, i -> "@Inject Leaf" + i + " leaf" + i + ";", " ") + " }");
+        }
+    },
+
+    HIERARCHY {
+        @Override
+        public Graph generate(final int size) {
+            Graph graph = new Graph("generated.hierarchy").component("Leaf", "public @Singleton class Leaf {}");
+            for (int i = 0; i < size - 1; i++) {
+                for (int level = 0; level < DEPTH - 1; level++) {
+                    String superclass = level == 0 ? "" : " extends Level" + i + "_" + (level - 1);
+                    graph.type("Level" + i + "_" + level, "public class Level" + i + "_" + level + superclass + " { @Inject Leaf leaf" + level + "; @Inject void install" + level + "(Leaf leaf) {} }");
+                }
+                String previous = i == 0 ? "" : "Component" + (i - 1) + " previous";
+                graph.component("Component" + i, "public class Component" + i + " extends Level" + i + "_" + (DEPTH - 2) + " { public @Inject Component" + i + "(" + previous + ") {} }");
+            }
+            return graph;
+        }
+    },
+
+    INJECTIONS {
+        @Override
+        public Graph generate(final int size) {
+            Graph graph = new Graph("generated.injections");
+            for (int i = 0; i < size; i++)
+                graph.type("Product" + i, "public class Product" + i + " { public Product" + i + "(" + (i == 0 ? "" : "Product" + (i - 1) + " previous") + ") {} }");
+            for (int module = 0; module * MODULE_SIZE < size; module++) {
+                int from = module * MODULE_SIZE;
+                int to = Math.min(size, from + MODULE_SIZE);
+                graph.module("Module" + module, "public @Injections class Module" + module + " { " + range(from, to, i -> "public @Injection Product" + i + " product" + i + "(" + (i == 0 ? "" : "Product" + (i - 1) + " previous") + ") { return new Product" + i + "(" + (i == 0 ? "" : "previous") + "); }", " ") + " }");
+            }
+            return graph.root("Product" + (size - 1));
+        }
+    },
+
+    CYCLE {
+        @Override
+        public Graph generate(final int size) {
+            Graph graph = new Graph("generated.cycle");
+            for (int i = 0; i < size; i++)
+                graph.component("Component" + i, "public class Component" + i + " { public @Inject Component" + i + "(Component" + (i + 1) % size + " next) {} }");
+            return graph;
+        }
+    };
+
+    private static final int DEPTH = 4;
+    private static final int MODULE_SIZE = 1000;
+
+    public abstract Graph generate(final int size);
+
+    private static String range(final int to, final IntFunction<String> declaration, final String delimiter) {
+        return range(0, to, declaration, delimiter);
+    }
+
+    private static String range(final int from, final int to, final IntFunction<String> declaration, final String delimiter) {
+        return IntStream.range(from, to).mapToObj(declaration).collect(Collectors.joining(delimiter));
+    }
+
+}
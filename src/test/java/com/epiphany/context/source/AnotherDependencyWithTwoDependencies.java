@@ -0,0 +1,11 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.Inject;
+
+@SuppressWarnings("unused")
+public class AnotherDependencyWithTwoDependencies implements AnotherDependency {
+
+    public @Inject AnotherDependencyWithTwoDependencies(final NestedDependency nestedDependency, final Dependency dependency) {
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.epiphany.context.source;
+
+import com.epiphany.AsyncInjectionProvider;
+import com.epiphany.context.Inject;
+
+@SuppressWarnings("unused")
+public class AsyncProviderInjectField {
+
+    private @Inject AsyncInjectionProvider<Dependency> provider;
+
+    public AsyncInjectionProvider<Dependency> provider() {
+        return provider;
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.epiphany.context.source;
+
+import java.io.IOException;
+
+public class ComponentWithCheckedExceptionConstructor implements Component {
+
+    public ComponentWithCheckedExceptionConstructor() throws IOException {
+        throw new IOException();
+    }
+
+}
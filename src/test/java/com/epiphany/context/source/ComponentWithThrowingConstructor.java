@@ -0,0 +1,9 @@
+package com.epiphany.context.source;
+
+public class ComponentWithThrowingConstructor implements Component {
+
+    public ComponentWithThrowingConstructor() {
+        throw new IllegalStateException();
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.Inject;
+
+@SuppressWarnings("unused")
+public class DependencyDependedOnProviderInjection implements Dependency {
+
+    public @Inject DependencyDependedOnProviderInjection(final ProviderInjectConstructor component) {
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.epiphany.context.source;
+
+public interface Described {
+
+    default String description() {
+        return getClass().getSimpleName();
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.epiphany.context.source;
+
+public class FinalMethodLazyComponent {
+
+    public final int size() {
+        return 1;
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.Inject;
+
+import java.util.List;
+
+public class GenericInjectField {
+
+    private @Inject List<String> names;
+
+    public List<String> names() {
+        return names;
+    }
+
+}
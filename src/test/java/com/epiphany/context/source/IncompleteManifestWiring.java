@@ -0,0 +1,16 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.ContextConfig;
+
+import java.util.function.Supplier;
+
+public class IncompleteManifestWiring implements Supplier<ContextConfig> {
+
+    @Override
+    public ContextConfig get() {
+        ContextConfig config = new ContextConfig();
+        config.bind(ManifestComponent.class, ManifestComponent.class);
+        return config;
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.Inject;
+
+public class IndexedFieldInjection implements Something {
+
+    @Inject Dependency dependency;
+    @Inject Dependency unindexed;
+
+    @Override
+    public Dependency dependency() {
+        return dependency;
+    }
+
+    public Dependency unindexed() {
+        return unindexed;
+    }
+
+}
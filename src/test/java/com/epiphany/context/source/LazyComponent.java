@@ -0,0 +1,42 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.Inject;
+import com.epiphany.context.source.parent.PublicInjectionSuperClass;
+
+public class LazyComponent extends PublicInjectionSuperClass implements Described {
+
+    private @Inject AnotherDependency another;
+
+    public AnotherDependency another() {
+        return another;
+    }
+
+    public long sum(final int i, final long l, final float f, final double d, final short s, final byte b, final char c, final boolean z) {
+        return widen(i) + l + (long) f + (long) d + s + b + c + flag(z);
+    }
+
+    public static long widen(final int value) {
+        return value;
+    }
+
+    private long flag(final boolean value) {
+        return value ? 1 : 0;
+    }
+
+    protected double half(final double value) {
+        return value / 2;
+    }
+
+    float twice(final float value) {
+        return value * 2;
+    }
+
+    public int size() {
+        return 1;
+    }
+
+    public void fail() {
+        throw new IllegalStateException();
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.*;
+
+@SuppressWarnings("unused")
+public class LazyInjectClass {
+
+    private @Inject @Lazy SealedLazyComponent something;
+
+}
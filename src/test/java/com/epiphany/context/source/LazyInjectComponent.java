@@ -0,0 +1,14 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.*;
+
+@SuppressWarnings("unused")
+public class LazyInjectComponent {
+
+    private @Inject @Lazy LazyComponent component;
+
+    public LazyComponent component() {
+        return component;
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.*;
+
+public class LazyInjectConstructor {
+
+    Something something;
+
+    @Inject
+    public LazyInjectConstructor(@Lazy Something something) {
+        this.something = something;
+    }
+
+    public Something something() {
+        return something;
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.*;
+
+@SuppressWarnings("unused")
+public class LazyInjectField {
+
+    private @Inject @Lazy Something something;
+
+    public Something something() {
+        return something;
+    }
+
+}
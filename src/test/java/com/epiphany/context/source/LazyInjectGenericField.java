@@ -0,0 +1,12 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.*;
+
+import java.util.Comparator;
+
+@SuppressWarnings("unused")
+public class LazyInjectGenericField {
+
+    private @Inject @Lazy Comparator<String> order;
+
+}
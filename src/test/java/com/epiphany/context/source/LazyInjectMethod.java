@@ -0,0 +1,18 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.*;
+
+@SuppressWarnings("unused")
+public class LazyInjectMethod {
+
+    Something something;
+
+    private @Inject void injectSomething(@Lazy Something something) {
+        this.something = something;
+    }
+
+    public Something something() {
+        return something;
+    }
+
+}
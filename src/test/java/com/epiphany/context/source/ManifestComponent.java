@@ -0,0 +1,11 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.Inject;
+
+@SuppressWarnings("unused")
+public class ManifestComponent {
+
+    public @Inject ManifestComponent(final Dependency dependency) {
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.ContextConfig;
+
+import java.util.function.Supplier;
+
+public class ManifestWiring implements Supplier<ContextConfig> {
+
+    @Override
+    public ContextConfig get() {
+        ContextConfig config = new ContextConfig();
+        config.bind(ManifestComponent.class, ManifestComponent.class);
+        config.bind(Dependency.class, new Dependency() {});
+        return config;
+    }
+
+}
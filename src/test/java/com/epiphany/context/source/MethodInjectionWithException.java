@@ -0,0 +1,13 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.Inject;
+
+@SuppressWarnings("unused")
+public class MethodInjectionWithException {
+
+    @Inject
+    private void install() {
+        throw new IllegalStateException();
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.Inject;
+
+@SuppressWarnings("unused")
+public class MethodInjectionWithPrimitive {
+
+    private int value;
+
+    @Inject
+    private void install(int value) {
+        this.value = value;
+    }
+
+    public int value() {
+        return value;
+    }
+
+}
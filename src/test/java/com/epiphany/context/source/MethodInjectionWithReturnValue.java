@@ -0,0 +1,36 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.Inject;
+
+@SuppressWarnings("unused")
+public class MethodInjectionWithReturnValue {
+
+    private Dependency dependency;
+    private int called = 0;
+
+    @Inject
+    public long injectDependency(Dependency dependency) {
+        this.dependency = dependency;
+        return 1L;
+    }
+
+    @Inject
+    Component install() {
+        called++;
+        return null;
+    }
+
+    @Inject
+    double ratio() {
+        return 0.5;
+    }
+
+    public Dependency dependency() {
+        return dependency;
+    }
+
+    public int called() {
+        return called;
+    }
+
+}
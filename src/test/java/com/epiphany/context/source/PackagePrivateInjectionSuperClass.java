@@ -0,0 +1,18 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.Inject;
+
+@SuppressWarnings("unused")
+public class PackagePrivateInjectionSuperClass {
+
+    @Inject Dependency dependency;
+    @Inject Hidden hidden;
+
+    public Dependency dependency() {
+        return dependency;
+    }
+
+    static class Hidden {
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static com.epiphany.general.Exceptions.execute;
+
+public class PausedInjections$$Factory implements InjectionFactory<PausedInjections> {
+
+    public static volatile CountDownLatch paused = new CountDownLatch(0);
+    public static volatile CountDownLatch resumed = new CountDownLatch(0);
+
+    @Override
+    public List<Class<?>> dependencies() {
+        return List.of();
+    }
+
+    @Override
+    public PausedInjections create(final Object[] arguments) {
+        return new PausedInjections();
+    }
+
+    @Override
+    public List<InjectionMethod<?>> injections() {
+        return List.of(new InjectionMethod<Dependency>() {
+            @Override
+            public Class<?> type() {
+                return Dependency.class;
+            }
+
+            @Override
+            public Scope scope() {
+                paused.countDown();
+                execute(resumed::await).run();
+                return Scope.PROTOTYPE;
+            }
+
+            @Override
+            public List<Class<?>> dependencies() {
+                return List.of();
+            }
+
+            @Override
+            public Dependency invoke(final Object injections, final Object[] arguments) {
+                return new Dependency() {};
+            }
+        });
+    }
+
+}
@@ -0,0 +1,4 @@
+package com.epiphany.context.source;
+
+public class PausedInjections {
+}
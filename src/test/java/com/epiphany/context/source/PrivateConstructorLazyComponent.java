@@ -0,0 +1,8 @@
+package com.epiphany.context.source;
+
+public class PrivateConstructorLazyComponent {
+
+    private PrivateConstructorLazyComponent() {
+    }
+
+}
@@ -0,0 +1,6 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.source.parent.ProtectedInjectionSuperClass;
+
+public class ProtectedInjectionSubClass extends ProtectedInjectionSuperClass {
+}
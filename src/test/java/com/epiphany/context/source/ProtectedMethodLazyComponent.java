@@ -0,0 +1,6 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.source.parent.ProtectedMethodSuperClass;
+
+public class ProtectedMethodLazyComponent extends ProtectedMethodSuperClass {
+}
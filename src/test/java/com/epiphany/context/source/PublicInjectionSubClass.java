@@ -0,0 +1,6 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.source.parent.PublicInjectionSuperClass;
+
+public class PublicInjectionSubClass extends PublicInjectionSuperClass {
+}
@@ -0,0 +1,18 @@
+package com.epiphany.context.source;
+
+import java.util.concurrent.*;
+
+import static com.epiphany.general.Exceptions.execute;
+
+public final class Rendezvous {
+
+    private static final CyclicBarrier BARRIER = new CyclicBarrier(2);
+
+    private Rendezvous() {
+    }
+
+    public static void await() {
+        execute(() -> BARRIER.await(5, TimeUnit.SECONDS)).run();
+    }
+
+}
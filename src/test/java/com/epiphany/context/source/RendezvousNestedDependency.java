@@ -0,0 +1,9 @@
+package com.epiphany.context.source;
+
+public class RendezvousNestedDependency implements NestedDependency {
+
+    public RendezvousNestedDependency() {
+        Rendezvous.await();
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.Singleton;
+
+@Singleton
+public class RendezvousSingletonComponent implements Component {
+
+    public RendezvousSingletonComponent() {
+        Rendezvous.await();
+    }
+
+}
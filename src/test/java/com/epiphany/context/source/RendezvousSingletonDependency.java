@@ -0,0 +1,12 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.Singleton;
+
+@Singleton
+public class RendezvousSingletonDependency implements Dependency {
+
+    public RendezvousSingletonDependency() {
+        Rendezvous.await();
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.epiphany.context.source;
+
+public sealed class SealedLazyComponent permits SealedLazyComponent.Permitted {
+
+    public static final class Permitted extends SealedLazyComponent {
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.Inject;
+
+@SuppressWarnings("unused")
+public class SelfDependentAnotherDependency implements AnotherDependency {
+
+    public @Inject SelfDependentAnotherDependency(final AnotherDependency dependency) {
+    }
+
+}
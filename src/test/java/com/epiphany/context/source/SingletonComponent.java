@@ -0,0 +1,7 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.Singleton;
+
+@Singleton
+public class SingletonComponent implements Component {
+}
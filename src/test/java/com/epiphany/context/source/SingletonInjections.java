@@ -0,0 +1,16 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.*;
+
+@SuppressWarnings("unused")
+public @Injections class SingletonInjections {
+
+    public @Singleton @Injection Dependency dependency() {
+        return new Dependency() {};
+    }
+
+    public @Injection NestedDependency nestedDependency() {
+        return new NestedDependency() {};
+    }
+
+}
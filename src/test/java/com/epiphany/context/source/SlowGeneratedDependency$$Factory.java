@@ -0,0 +1,37 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.InjectionFactory;
+
+import java.util.List;
+
+public final class SlowGeneratedDependency$$Factory implements InjectionFactory<SlowGeneratedDependency> {
+
+    @Override
+    public List<Class<?>> dependencies() {
+        return List.of(Component.class, Component.class, Component.class);
+    }
+
+    @Override
+    public SlowGeneratedDependency create(final Object[] arguments) {
+        SlowGeneratedDependency instance = construct(arguments);
+        injectFields(instance, arguments);
+        injectMethods(instance, arguments);
+        return instance;
+    }
+
+    @Override
+    public SlowGeneratedDependency construct(final Object[] arguments) {
+        return new SlowGeneratedDependency((Component) arguments[0]);
+    }
+
+    @Override
+    public void injectFields(final SlowGeneratedDependency instance, final Object[] arguments) {
+        instance.component = (Component) arguments[1];
+    }
+
+    @Override
+    public void injectMethods(final SlowGeneratedDependency instance, final Object[] arguments) {
+        instance.install((Component) arguments[2]);
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.Inject;
+
+import static com.epiphany.general.Exceptions.execute;
+
+@SuppressWarnings("unused")
+public class SlowGeneratedDependency implements Dependency {
+
+    @Inject Component component;
+
+    public @Inject SlowGeneratedDependency(final Component component) {
+        execute(() -> Thread.sleep(20)).run();
+    }
+
+    @Inject
+    void install(final Component component) {
+        execute(() -> Thread.sleep(10)).run();
+    }
+
+}
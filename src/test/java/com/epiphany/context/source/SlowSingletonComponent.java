@@ -0,0 +1,14 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.Singleton;
+
+import static com.epiphany.general.Exceptions.execute;
+
+@Singleton
+public class SlowSingletonComponent implements Component {
+
+    public SlowSingletonComponent() {
+        execute(() -> Thread.sleep(50)).run();
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.Inject;
+
+public class SomethingDependedOnLazyInjection implements Something {
+
+    private final LazyInjectConstructor component;
+
+    public @Inject SomethingDependedOnLazyInjection(final LazyInjectConstructor component) {
+        this.component = component;
+    }
+
+    @Override
+    public Dependency dependency() {
+        return null;
+    }
+
+    public LazyInjectConstructor component() {
+        return component;
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.Inject;
+
+@SuppressWarnings("unused")
+public class StaticInjectField {
+
+    private static @Inject Dependency dependency;
+
+    public static Dependency dependency() {
+        return dependency;
+    }
+
+}
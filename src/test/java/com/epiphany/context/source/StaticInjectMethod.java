@@ -0,0 +1,19 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.Inject;
+
+@SuppressWarnings("unused")
+public class StaticInjectMethod {
+
+    private static Dependency dependency;
+
+    @Inject
+    private static void install(Dependency dependency) {
+        StaticInjectMethod.dependency = dependency;
+    }
+
+    public static Dependency dependency() {
+        return dependency;
+    }
+
+}
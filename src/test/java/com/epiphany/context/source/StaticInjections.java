@@ -0,0 +1,12 @@
+package com.epiphany.context.source;
+
+import com.epiphany.context.*;
+
+@SuppressWarnings("unused")
+public @Injections class StaticInjections {
+
+    public static @Injection Dependency dependency(Dependency dependency) {
+        return dependency;
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.epiphany.context.source.parent;
+
+import com.epiphany.context.Inject;
+
+@SuppressWarnings("unused")
+public class HiddenTypeInjectionSuperClass {
+
+    public @Inject Hidden hidden;
+
+    static class Hidden {
+    }
+
+}
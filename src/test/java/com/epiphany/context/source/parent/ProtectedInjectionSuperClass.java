@@ -0,0 +1,14 @@
+package com.epiphany.context.source.parent;
+
+import com.epiphany.context.Inject;
+import com.epiphany.context.source.Dependency;
+
+public class ProtectedInjectionSuperClass {
+
+    protected @Inject Dependency dependency;
+
+    public Dependency dependency() {
+        return dependency;
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.epiphany.context.source.parent;
+
+public class ProtectedMethodSuperClass {
+
+    protected int size() {
+        return 1;
+    }
+
+}
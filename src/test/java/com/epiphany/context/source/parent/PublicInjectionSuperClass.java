@@ -0,0 +1,19 @@
+package com.epiphany.context.source.parent;
+
+import com.epiphany.context.Inject;
+import com.epiphany.context.source.Dependency;
+
+public class PublicInjectionSuperClass {
+
+    private Dependency dependency;
+
+    @Inject
+    public void inject(Dependency dependency) {
+        this.dependency = dependency;
+    }
+
+    public Dependency dependency() {
+        return dependency;
+    }
+
+}
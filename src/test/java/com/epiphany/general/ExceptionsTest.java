@@ -75,6 +75,18 @@ public class ExceptionsTest {
         assertDoesNotThrow(() -> Exceptions.ignored(exceptions::execute));
     }
 
+    @Test
+    void should_not_throw_when_method_throws_checked_exception() throws IOException {
+        doThrow(new IOException()).when(exceptions).execute();
+        assertDoesNotThrow(() -> Exceptions.ignored(exceptions::execute));
+    }
+
+    @Test
+    void should_return_default_when_evaluate_method_throws_unchecked_exception() throws IOException {
+        when(exceptions.evaluate()).thenThrow(new IllegalStateException());
+        assertEquals("abc", Exceptions.ignored(exceptions::evaluate, "abc"));
+    }
+
     @Test
     void should_evaluate_exception_for_wanted_message() throws IOException {
         doThrow(new IOException()).when(exceptions).evaluate();